@@ -0,0 +1,77 @@
+// src/jmh/java/flight/bench/CalendarBenchmark.java
+package flight.bench;
+
+import flight.CalendarMatrix;
+import flight.CalendarSearch;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ±7 day (15x15) calendar search against one single search and against
+ * validating the 225 date pairs one by one (date strings prepared up front).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalendarBenchmark {
+
+    private static final int FLEX = 7;
+
+    private FlightSearchValidator validator;
+    private CalendarSearch calendar;
+    private SearchRequest request;
+    private SearchRequest[] cells;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TodayProvider today = new TodayProvider(Requests.CLOCK);
+        validator = new FlightSearchValidator(today, new OutcomeCounters());
+        calendar  = new CalendarSearch(today);
+        request   = Requests.valid();
+        cells = new SearchRequest[(2 * FLEX + 1) * (2 * FLEX + 1)];
+        int k = 0;
+        for (int i = -FLEX; i <= FLEX; i++) {
+            for (int j = -FLEX; j <= FLEX; j++) {
+                cells[k++] = new SearchRequest(Requests.d(5 + i), "mel", false, Requests.d(12 + j), "pvg",
+                        "economy", 2, 2, 0);
+            }
+        }
+    }
+
+    @Benchmark
+    public ValidationOutcome singleSearch() {
+        return validator.check(request);
+    }
+
+    @Benchmark
+    public CalendarMatrix calendar15x15() {
+        return calendar.search(request, FLEX);
+    }
+
+    @Benchmark
+    public void cellByCell15x15(Blackhole bh) {
+        for (SearchRequest cell : cells) {
+            bh.consume(validator.check(cell));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+// src/jmh/java/flight/bench/CoalescingBenchmark.java
+package flight.bench;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchCoalescer;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidatedSearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Searches per millisecond from 16 threads, with and without SearchCoalescer,
+ * over 1000 distinct requests drawn uniformly (zipf = 0) or with a Zipfian
+ * skew (zipf = 1: the top request is ~13% of traffic, the top ten ~39%).
+ *
+ * A search is validation plus a backend call: a parkNanos of backendMicros
+ * holding one of backendSlots permits, so the backend saturates the way it
+ * does in a flash sale and duplicates queue up behind each other. Waiting is
+ * also where duplicates overlap at all here; on a CPU-bound search the 1-vCPU
+ * sandbox would hardly ever run two at once. TearDown prints the share of
+ * calls that were coalesced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class CoalescingBenchmark {
+
+    static final int KEYS = 1000;
+    static final int STREAM = 1 << 14;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        @Param({"false", "true"})
+        public boolean coalesce;
+
+        @Param({"0", "1"})
+        public double zipf;
+
+        @Param({"200"})
+        public int backendMicros;
+
+        @Param({"4"})
+        public int backendSlots;
+
+        SearchRequest[] keys;
+        int[] stream;
+        SearchCoalescer<Optional<ValidatedSearch>> coalescer;
+        FlightSearchValidator validator;
+        Semaphore backend;
+        final AtomicInteger threadSeeds = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            validator = new FlightSearchValidator(new TodayProvider(Requests.CLOCK), new OutcomeCounters());
+            keys = Requests.mixed(KEYS, 24L);
+            backend = new Semaphore(backendSlots);
+            stream = zipfStream(KEYS, zipf, STREAM, 7L);
+            coalescer = new SearchCoalescer<>(this::backendSearch);
+        }
+
+        Optional<ValidatedSearch> backendSearch(SearchRequest r) {
+            Optional<ValidatedSearch> v = validator.validate(r);
+            backend.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(backendMicros * 1000L);
+            } finally {
+                backend.release();
+            }
+            return v;
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            long executed = coalescer.executed();
+            long joined = coalescer.coalesced();
+            if (executed + joined > 0) {
+                System.out.printf("%n  coalesced %d of %d calls (%.1f%%)%n", joined, executed + joined,
+                        100.0 * joined / (executed + joined));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(Shared shared) {
+            next = shared.threadSeeds.getAndIncrement() * 997; // threads start at different points of the stream
+        }
+    }
+
+    @Benchmark
+    public Optional<ValidatedSearch> search(Shared shared, Cursor cursor) {
+        SearchRequest r = shared.keys[shared.stream[cursor.next++ & (STREAM - 1)]];
+        return shared.coalesce ? shared.coalescer.join(r) : shared.backendSearch(r);
+    }
+
+    /** {@code n} key indexes in 0..keys-1 where index k has weight 1/(k+1)^s (s = 0 is uniform). */
+    static int[] zipfStream(int keys, double s, int n, long seed) {
+        double[] cdf = new double[keys];
+        double sum = 0;
+        for (int k = 0; k < keys; k++) {
+            sum += 1.0 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        Random rnd = new Random(seed);
+        int[] out = new int[n];
+        for (int i = 0; i < n; i++) {
+            int k = Arrays.binarySearch(cdf, rnd.nextDouble() * sum);
+            out[i] = Math.min(keys - 1, k < 0 ? -k - 1 : k);
+        }
+        return out;
+    }
+}
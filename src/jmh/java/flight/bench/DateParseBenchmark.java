@@ -0,0 +1,68 @@
+// src/jmh/java/flight/bench/DateParseBenchmark.java
+package flight.bench;
+
+import flight.DmyDateParser;
+import flight.DmyDateWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Valid dates within the next year: DmyDateWindow lookup vs the digit parser
+ * vs the original LocalDate.parse with a STRICT formatter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateParseBenchmark {
+
+    private static final DateTimeFormatter STRICT_DMY =
+            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final long TODAY = Requests.TODAY.toEpochDay();
+
+    private final DmyDateWindow window = new DmyDateWindow(DmyDateWindow.DEFAULT_DAYS);
+    private String[] dates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rnd = new Random(3L);
+        dates = new String[1024];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = Requests.d(rnd.nextInt(365));
+        }
+    }
+
+    @Benchmark
+    public long windowHit() {
+        return window.parseEpochDay(dates[next++ & 1023], TODAY);
+    }
+
+    @Benchmark
+    public long parser() {
+        return DmyDateParser.parseEpochDay(dates[next++ & 1023]);
+    }
+
+    @Benchmark
+    public long legacyLocalDateParse() {
+        return LocalDate.parse(dates[next++ & 1023], STRICT_DMY).toEpochDay();
+    }
+}
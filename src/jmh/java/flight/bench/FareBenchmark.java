@@ -0,0 +1,83 @@
+// src/jmh/java/flight/bench/FareBenchmark.java
+package flight.bench;
+
+import flight.Airport;
+import flight.SeatingClass;
+import flight.fare.FareEngine;
+import flight.fare.FareTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trip party price from a fully populated two-year FareTable, and the
+ * cost of one copy-on-write bulk update (a route/class repriced for the year).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FareBenchmark {
+
+    private static final int N = 4096;
+    private static final int DAYS = 730;
+
+    private FareEngine engine;
+    private final int[] from = new int[N];
+    private final int[] to = new int[N];
+    private final int[] cls = new int[N];
+    private final long[] dep = new long[N];
+    private final long[] ret = new long[N];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long today = Requests.TODAY.toEpochDay();
+        Random rnd = new Random(23L);
+        FareTable.Builder b = FareTable.builder(today, DAYS);
+        for (int o = 0; o < Airport.COUNT; o++) {
+            for (int d = 0; d < Airport.COUNT; d++) {
+                if (o == d) continue;
+                for (int c = 0; c < SeatingClass.COUNT; c++) {
+                    for (int day = 0; day < DAYS; day++) {
+                        b.set(o, d, c, today + day, 20_000 + rnd.nextInt(200_000));
+                    }
+                }
+            }
+        }
+        engine = new FareEngine(b.build());
+        for (int i = 0; i < N; i++) {
+            from[i] = rnd.nextInt(Airport.COUNT);
+            to[i]   = (from[i] + 1 + rnd.nextInt(Airport.COUNT - 1)) % Airport.COUNT;
+            cls[i]  = rnd.nextInt(SeatingClass.COUNT);
+            dep[i]  = today + rnd.nextInt(365);
+            ret[i]  = dep[i] + rnd.nextInt(21);
+        }
+    }
+
+    @Benchmark
+    public long price() {
+        int i = next++ & (N - 1);
+        return engine.price(from[i], to[i], cls[i], dep[i], ret[i], 2, 1, 1);
+    }
+
+    @Benchmark
+    public FareTable bulkUpdate() {
+        long first = engine.snapshot().firstDay();
+        int fare = 30_000 + (next++ & 1023);
+        return engine.update(b -> b.set(0, 1, 0, first, first + 364, fare));
+    }
+}
@@ -0,0 +1,116 @@
+// src/jmh/java/flight/bench/FlightSearchBenchmark.java
+package flight.bench;
+
+import flight.DmyDateParser;
+import flight.FlightSearch;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationCache;
+import flight.ValidationOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of runFlightSearch per path. Run with {@code -prof gc} to get
+ * gc.alloc.rate.norm (bytes per operation).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlightSearchBenchmark {
+
+    // The pre-user-001 parseStrict, kept here as the comparison point
+    private static final DateTimeFormatter STRICT_DMY =
+            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    /** One fixed request per path through the rules (ACCEPTED = all-valid). */
+    @State(Scope.Thread)
+    public static class PathState {
+        @Param({"ACCEPTED", "INVALID_CLASS", "INVALID_AIRPORT", "SAME_AIRPORT", "INVALID_DATE",
+                "DEPARTURE_IN_PAST", "RETURN_BEFORE_DEPARTURE", "PASSENGER_TOTAL", "EMERGENCY_ROW_CLASS",
+                "CHILD_IN_EMERGENCY_ROW", "CHILD_IN_FIRST", "CHILD_RATIO",
+                "INFANT_IN_EMERGENCY_ROW", "INFANT_IN_BUSINESS", "INFANT_RATIO"})
+        public ValidationOutcome path;
+
+        SearchRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            request = Requests.byOutcome().get(path);
+        }
+    }
+
+    private FlightSearch fs;
+    private FlightSearch cached;
+    private SearchRequest[] mixed;
+    private int next;
+
+    private final String[] malformedDates = {"29/02/2031", "31/04/2030", "1/1/2030", "01-01-2030", "00/01/2030",
+            "01/13/2030", "01/01/20a0", "01/01/12030"};
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fs = new FlightSearch(Requests.CLOCK);
+        cached = new FlightSearch(new FlightSearchValidator(
+                new TodayProvider(Requests.CLOCK), new OutcomeCounters(), new ValidationCache(1 << 14)));
+        mixed = Requests.mixed(4096, 7L);
+    }
+
+    @Benchmark
+    public boolean runFlightSearch(PathState state) {
+        SearchRequest r = state.request;
+        return fs.runFlightSearch(r.departureDate(), r.departureAirportCode(), r.emergencyRowSeating(),
+                r.returnDate(), r.destinationAirportCode(), r.seatingClass(),
+                r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount());
+    }
+
+    @Benchmark
+    public boolean mixedWorkload() {
+        SearchRequest r = mixed[next++ & (4096 - 1)];
+        return fs.runFlightSearch(r.departureDate(), r.departureAirportCode(), r.emergencyRowSeating(),
+                r.returnDate(), r.destinationAirportCode(), r.seatingClass(),
+                r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount());
+    }
+
+    @Benchmark
+    public boolean mixedWorkloadCached() {
+        SearchRequest r = mixed[next++ & (4096 - 1)];
+        return cached.runFlightSearch(r.departureDate(), r.departureAirportCode(), r.emergencyRowSeating(),
+                r.returnDate(), r.destinationAirportCode(), r.seatingClass(),
+                r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount());
+    }
+
+    @Benchmark
+    public long parseStrictMalformed() {
+        return DmyDateParser.parseEpochDay(malformedDates[next++ & 7]);
+    }
+
+    @Benchmark
+    public Object legacyParseStrictMalformed() {
+        try {
+            return LocalDate.parse(malformedDates[next++ & 7], STRICT_DMY);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
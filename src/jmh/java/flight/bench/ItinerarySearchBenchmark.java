@@ -0,0 +1,74 @@
+// src/jmh/java/flight/bench/ItinerarySearchBenchmark.java
+package flight.bench;
+
+import flight.Airport;
+import flight.SeatingClass;
+import flight.route.Itinerary;
+import flight.route.ItinerarySearch;
+import flight.route.Ranking;
+import flight.route.RouteGraph;
+import flight.route.SyntheticSchedules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one itinerary query (random origin, destination and day) against
+ * a synthetic schedule of 100k legs over a year. Target: well under 1 ms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItinerarySearchBenchmark {
+
+    @Param({"100000"})
+    public int legs;
+
+    @Param({"365"})
+    public int days;
+
+    @Param({"CHEAPEST", "FASTEST"})
+    public Ranking ranking;
+
+    private ItinerarySearch search;
+    private int[] origins, destinations;
+    private long[] epochDays;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long firstDay = Requests.TODAY.toEpochDay();
+        search = new ItinerarySearch(new RouteGraph(SyntheticSchedules.generate(legs, firstDay, days, 1L)));
+        Random rnd = new Random(2);
+        origins = new int[1024];
+        destinations = new int[1024];
+        epochDays = new long[1024];
+        for (int i = 0; i < 1024; i++) {
+            origins[i] = rnd.nextInt(Airport.COUNT);
+            destinations[i] = (origins[i] + 1 + rnd.nextInt(Airport.COUNT - 1)) % Airport.COUNT;
+            epochDays[i] = firstDay + rnd.nextInt(days);
+        }
+    }
+
+    @Benchmark
+    public List<Itinerary> search() {
+        int i = next++ & 1023;
+        return search.search(origins[i], destinations[i], epochDays[i], SeatingClass.ECONOMY.ordinal(), ranking, 10);
+    }
+}
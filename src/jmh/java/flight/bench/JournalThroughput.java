@@ -0,0 +1,220 @@
+// src/jmh/java/flight/bench/JournalThroughput.java
+package flight.bench;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.TodayProvider;
+import flight.ValidatedSearch;
+import flight.metrics.HistogramSnapshot;
+import flight.metrics.LatencyHistogram;
+import flight.wire.SearchJournal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sustained SearchJournal throughput and latency under several fsync
+ * policies. Not a JMH benchmark: each run needs a fresh file and reports
+ * percentiles, so it is a main class like StoreFootprint.
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar flight.bench.JournalThroughput [dir] [seconds] [producers]
+ * </pre>
+ *
+ * Two modes per policy. "async": producers append as fast as they can and
+ * never wait for the disk; latency is the time spent in append(), which only
+ * grows when the ring is full. "commit": every producer waits for its record
+ * to be forced (awaitDurable) before the next append; latency is append to
+ * durable, and records/s shows how many producers share each fsync. Commit
+ * mode is skipped for policies without a batch or time trigger, where it
+ * would wait for the count to fill. The "direct" line is the baseline the
+ * journal replaces: each producer writes its record and forces the file
+ * itself, one at a time.
+ */
+public final class JournalThroughput {
+
+    private JournalThroughput() {
+    }
+
+    private record Policy(String name, int syncEveryRecords, long syncEveryMillis) {
+        boolean commitMode() {
+            return syncEveryRecords == 1 || syncEveryMillis > 0;
+        }
+    }
+
+    private static final Policy[] POLICIES = {
+            new Policy("none",           0,    0),
+            new Policy("every-batch",    1,    0),
+            new Policy("1024-records",   1024, 0),
+            new Policy("10ms",           0,    10),
+            new Policy("1024-or-10ms",   1024, 10),
+    };
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "target/journal-bench");
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int producers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        Files.createDirectories(dir);
+
+        FlightSearchValidator validator = new FlightSearchValidator(new TodayProvider(Requests.CLOCK),
+                new OutcomeCounters());
+        ValidatedSearch[] searches = Arrays.stream(Requests.mixed(8192, 25L))
+                .map(validator::validate).flatMap(Optional::stream).toArray(ValidatedSearch[]::new);
+
+        System.out.printf("dir=%s (%s) producers=%d seconds=%d%n", dir.toAbsolutePath(),
+                Files.getFileStore(dir).type(), producers, seconds);
+        System.out.printf("%-13s %-6s %12s %9s %9s %9s %9s %8s%n",
+                "policy", "mode", "records/s", "p50 us", "p99 us", "p99.9 us", "max us", "fsyncs");
+        runDirect(dir, seconds, producers);
+        for (Policy policy : POLICIES) {
+            run(dir, policy, false, seconds, producers, searches);
+            if (policy.commitMode()) {
+                run(dir, policy, true, seconds, producers, searches);
+            }
+        }
+    }
+
+    private static void run(Path dir, Policy policy, boolean commit, int seconds, int producers,
+                            ValidatedSearch[] searches) throws Exception {
+        Path file = dir.resolve(policy.name() + (commit ? "-commit" : "-async") + ".journal");
+        Files.deleteIfExists(file);
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicBoolean measuring = new AtomicBoolean();
+        long[] counts = new long[producers];
+        long elapsed;
+        long syncs;
+
+        try (SearchJournal journal = SearchJournal.builder(file)
+                .syncEveryRecords(policy.syncEveryRecords())
+                .syncEveryMillis(policy.syncEveryMillis())
+                .open()) {
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int id = p;
+                Thread t = new Thread(() -> {
+                    int i = id * 997;
+                    long n = 0;
+                    try {
+                        while (!stop.get()) {
+                            long start = System.nanoTime();
+                            long seq = journal.append(searches[i++ % searches.length]);
+                            if (commit) {
+                                journal.awaitDurable(seq);
+                            }
+                            if (measuring.get()) {
+                                latency.record(System.nanoTime() - start);
+                                n++;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    counts[id] = n;
+                });
+                t.start();
+                threads.add(t);
+            }
+            Thread.sleep(1000); // warm-up
+            long syncsBefore = journal.syncs();
+            long start = System.nanoTime();
+            measuring.set(true);
+            Thread.sleep(seconds * 1000L);
+            measuring.set(false);
+            elapsed = System.nanoTime() - start;
+            syncs = journal.syncs() - syncsBefore;
+            stop.set(true);
+            for (Thread t : threads) {
+                t.join();
+            }
+        }
+        Files.deleteIfExists(file);
+
+        print(policy.name(), commit ? "commit" : "async", counts, elapsed, latency, syncs);
+    }
+
+    /** Baseline: write one record and force, under a lock, per append. */
+    private static void runDirect(Path dir, int seconds, int producers) throws Exception {
+        Path file = dir.resolve("direct.journal");
+        Files.deleteIfExists(file);
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicBoolean measuring = new AtomicBoolean();
+        long[] counts = new long[producers];
+        long[] syncs = new long[1];
+        long elapsed;
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int id = p;
+                Thread t = new Thread(() -> {
+                    ByteBuffer record = ByteBuffer.allocateDirect(SearchJournal.RECORD_SIZE);
+                    long n = 0;
+                    try {
+                        while (!stop.get()) {
+                            long start = System.nanoTime();
+                            synchronized (ch) {
+                                record.clear();
+                                ch.write(record);
+                                ch.force(false);
+                                syncs[0]++;
+                            }
+                            if (measuring.get()) {
+                                latency.record(System.nanoTime() - start);
+                                n++;
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    counts[id] = n;
+                });
+                t.start();
+                threads.add(t);
+            }
+            Thread.sleep(1000);
+            long syncsBefore;
+            synchronized (ch) {
+                syncsBefore = syncs[0];
+            }
+            long start = System.nanoTime();
+            measuring.set(true);
+            Thread.sleep(seconds * 1000L);
+            measuring.set(false);
+            elapsed = System.nanoTime() - start;
+            long syncsDuring;
+            synchronized (ch) {
+                syncsDuring = syncs[0] - syncsBefore;
+            }
+            stop.set(true);
+            for (Thread t : threads) {
+                t.join();
+            }
+            print("direct", "commit", counts, elapsed, latency, syncsDuring);
+        }
+        Files.deleteIfExists(file);
+    }
+
+    private static void print(String policy, String mode, long[] counts, long elapsed,
+                              LatencyHistogram latency, long syncs) {
+        long total = Arrays.stream(counts).sum();
+        HistogramSnapshot s = latency.snapshot();
+        System.out.printf("%-13s %-6s %,12.0f %9.1f %9.1f %9.1f %9.1f %8d%n",
+                policy, mode, total * 1e9 / elapsed,
+                s.valueAtPercentile(50) / 1e3, s.valueAtPercentile(99) / 1e3,
+                s.valueAtPercentile(99.9) / 1e3, s.max() / 1e3, syncs);
+    }
+}
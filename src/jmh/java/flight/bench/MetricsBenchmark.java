@@ -0,0 +1,96 @@
+// src/jmh/java/flight/bench/MetricsBenchmark.java
+package flight.bench;
+
+import flight.FlightRules;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import flight.metrics.ValidationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of ValidationMetrics on the mixed workload: no probe, metrics
+ * on (default sampling and timing every call) and metrics switched off. The
+ * probe* benchmarks time start()+finish() alone, which is the overhead added
+ * to each check without the run-to-run noise of the full validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private FlightSearchValidator plain;
+    private FlightSearchValidator sampled;
+    private FlightSearchValidator timedEveryCall;
+    private FlightSearchValidator switchedOff;
+    private ValidationMetrics metrics;
+    private ValidationMetrics metricsOff;
+    private SearchRequest[] mixed;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TodayProvider today = new TodayProvider(Requests.CLOCK);
+        plain          = new FlightSearchValidator(today, new OutcomeCounters());
+        sampled        = new FlightSearchValidator(today, new OutcomeCounters(), FlightRules.CHAIN,
+                new ValidationMetrics());
+        timedEveryCall = new FlightSearchValidator(today, new OutcomeCounters(), FlightRules.CHAIN,
+                new ValidationMetrics(1));
+        metricsOff = new ValidationMetrics();
+        metricsOff.setEnabled(false);
+        switchedOff    = new FlightSearchValidator(today, new OutcomeCounters(), FlightRules.CHAIN, metricsOff);
+        metrics = new ValidationMetrics();
+        mixed = Requests.mixed(4096, 11L);
+    }
+
+    @Benchmark
+    public ValidationOutcome noProbe() {
+        return plain.check(mixed[next++ & 4095]);
+    }
+
+    @Benchmark
+    public ValidationOutcome metricsSampled() {
+        return sampled.check(mixed[next++ & 4095]);
+    }
+
+    @Benchmark
+    public ValidationOutcome metricsEveryCall() {
+        return timedEveryCall.check(mixed[next++ & 4095]);
+    }
+
+    @Benchmark
+    public ValidationOutcome metricsOff() {
+        return switchedOff.check(mixed[next++ & 4095]);
+    }
+
+    @Benchmark
+    public long probeSampled() {
+        long token = metrics.start();
+        metrics.finish(token, ValidationOutcome.ACCEPTED, next & 7, 2);
+        return token;
+    }
+
+    @Benchmark
+    public long probeOff() {
+        long token = metricsOff.start();
+        metricsOff.finish(token, ValidationOutcome.ACCEPTED, next & 7, 2);
+        return token;
+    }
+}
@@ -0,0 +1,99 @@
+// src/jmh/java/flight/bench/ParallelBatchBenchmark.java
+package flight.bench;
+
+import flight.FlightSearch;
+import flight.ParallelBatchValidator;
+import flight.SearchBatch;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of ParallelBatchValidator over a 1M-row mixed batch, by pool size.
+ * sequential is the single-threaded runFlightSearchBatch for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBatchBenchmark {
+
+    private static final int ROWS = 1 << 20;
+
+    /** The fork/join pool, sized by the threads parameter. */
+    @State(Scope.Benchmark)
+    public static class PoolState {
+        @Param({"1", "2", "4", "8", "16", "32"})
+        public int threads;
+
+        ForkJoinPool pool;
+        ParallelBatchValidator validator;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            pool = new ForkJoinPool(threads);
+            validator = new ParallelBatchValidator(pool);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    private final TodayProvider today = new TodayProvider(Requests.CLOCK);
+    private SearchBatch batch;
+    private boolean[] accepted;
+    private byte[] reasons;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SearchRequest[] mixed = Requests.mixed(ROWS, 5L);
+        String[] dep = new String[ROWS], from = new String[ROWS], ret = new String[ROWS];
+        String[] to = new String[ROWS], cls = new String[ROWS];
+        boolean[] emergency = new boolean[ROWS];
+        int[] adults = new int[ROWS], children = new int[ROWS], infants = new int[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            SearchRequest r = mixed[i];
+            dep[i] = r.departureDate();
+            from[i] = r.departureAirportCode();
+            emergency[i] = r.emergencyRowSeating();
+            ret[i] = r.returnDate();
+            to[i] = r.destinationAirportCode();
+            cls[i] = r.seatingClass();
+            adults[i] = r.adultPassengerCount();
+            children[i] = r.childPassengerCount();
+            infants[i] = r.infantPassengerCount();
+        }
+        batch = new SearchBatch(dep, from, emergency, ret, to, cls, adults, children, infants);
+        accepted = new boolean[ROWS];
+        reasons = new byte[ROWS];
+    }
+
+    @Benchmark
+    public long[] parallel(PoolState state) {
+        return state.validator.validate(batch, accepted, reasons, today);
+    }
+
+    @Benchmark
+    public int sequential() {
+        return FlightSearch.runFlightSearchBatch(batch, accepted, reasons, today);
+    }
+}
@@ -0,0 +1,108 @@
+// src/jmh/java/flight/bench/PassengerMixBenchmark.java
+package flight.bench;
+
+import flight.FlightRules;
+import flight.SeatingClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Branchy passenger-mix rules versus the precomputed tables, per check, over
+ * 4096 inputs: all the same mix (branches perfectly predicted), realistic
+ * parties of 0..3 adults/children and 0..2 infants in any class with some
+ * emergency-row requests (every rule fires, in no predictable order), or
+ * drawn uniformly from every table cell (mostly over nine passengers).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PassengerMixBenchmark {
+
+    private static final int N = 4096;
+
+    @Param({"predictable", "mixed", "uniform"})
+    public String inputs;
+
+    private final int[] adults = new int[N];
+    private final int[] children = new int[N];
+    private final int[] infants = new int[N];
+    private final int[] classes = new int[N];
+    private final boolean[] emergency = new boolean[N];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rnd = new Random(21L);
+        for (int i = 0; i < N; i++) {
+            switch (inputs) {
+                case "mixed":
+                    adults[i]    = rnd.nextInt(4);
+                    children[i]  = rnd.nextInt(4);
+                    infants[i]   = rnd.nextInt(3);
+                    classes[i]   = rnd.nextInt(SeatingClass.COUNT);
+                    emergency[i] = rnd.nextInt(4) == 0;
+                    break;
+                case "uniform":
+                    adults[i]    = rnd.nextInt(10);
+                    children[i]  = rnd.nextInt(10);
+                    infants[i]   = rnd.nextInt(10);
+                    classes[i]   = rnd.nextInt(SeatingClass.COUNT);
+                    emergency[i] = rnd.nextBoolean();
+                    break;
+                default:
+                    adults[i]    = 2;
+                    children[i]  = 2;
+                    infants[i]   = 0;
+                    classes[i]   = 0;
+                    emergency[i] = false;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public int branchy() {
+        int sum = 0;
+        for (int i = 0; i < N; i++) {
+            sum += FlightRules.checkPassengersBranchy(classes[i], emergency[i],
+                    adults[i], children[i], infants[i]).code();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public int table() {
+        int sum = 0;
+        for (int i = 0; i < N; i++) {
+            sum += FlightRules.checkPassengers(classes[i], emergency[i], adults[i], children[i], infants[i]).code();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public int bitTable() {
+        int sum = 0;
+        for (int i = 0; i < N; i++) {
+            if (FlightRules.passengerMixAllowed(classes[i], emergency[i], adults[i], children[i], infants[i])) sum++;
+        }
+        return sum;
+    }
+}
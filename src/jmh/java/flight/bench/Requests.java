@@ -0,0 +1,85 @@
+// src/jmh/java/flight/bench/Requests.java
+package flight.bench;
+
+import flight.SearchRequest;
+import flight.ValidationOutcome;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Canned search requests for benchmarks, relative to a pinned "today" so
+ * results do not depend on the day the benchmark runs.
+ */
+public final class Requests {
+
+    public static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    public static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh"};
+    private static final String[] CLASSES  = {"economy", "premium economy", "business", "first"};
+
+    private Requests() {
+    }
+
+    public static String d(int daysFromToday) {
+        return TODAY.plusDays(daysFromToday).format(DMY);
+    }
+
+    public static SearchRequest valid() {
+        return new SearchRequest(d(5), "mel", false, d(12), "pvg", "economy", 2, 2, 0);
+    }
+
+    /** One request per outcome that takes exactly that path through the rules. */
+    public static Map<ValidationOutcome, SearchRequest> byOutcome() {
+        Map<ValidationOutcome, SearchRequest> m = new EnumMap<>(ValidationOutcome.class);
+        m.put(ValidationOutcome.ACCEPTED,                valid());
+        m.put(ValidationOutcome.INVALID_CLASS,           new SearchRequest(d(5), "mel", false, d(12), "pvg", "econom", 2, 2, 0));
+        m.put(ValidationOutcome.INVALID_AIRPORT,         new SearchRequest(d(5), "xxx", false, d(12), "pvg", "economy", 2, 2, 0));
+        m.put(ValidationOutcome.SAME_AIRPORT,            new SearchRequest(d(5), "mel", false, d(12), "mel", "economy", 2, 2, 0));
+        m.put(ValidationOutcome.INVALID_DATE,            new SearchRequest("29/02/2031", "mel", false, d(12), "pvg", "economy", 2, 2, 0));
+        m.put(ValidationOutcome.DEPARTURE_IN_PAST,       new SearchRequest(d(-1), "mel", false, d(12), "pvg", "economy", 2, 2, 0));
+        m.put(ValidationOutcome.RETURN_BEFORE_DEPARTURE, new SearchRequest(d(12), "mel", false, d(5), "pvg", "economy", 2, 2, 0));
+        m.put(ValidationOutcome.PASSENGER_TOTAL,         new SearchRequest(d(5), "mel", false, d(12), "pvg", "economy", 9, 1, 0));
+        m.put(ValidationOutcome.EMERGENCY_ROW_CLASS,     new SearchRequest(d(5), "mel", true, d(12), "pvg", "business", 1, 0, 0));
+        m.put(ValidationOutcome.CHILD_IN_EMERGENCY_ROW,  new SearchRequest(d(5), "mel", true, d(12), "pvg", "economy", 1, 1, 0));
+        m.put(ValidationOutcome.CHILD_IN_FIRST,          new SearchRequest(d(5), "mel", false, d(12), "pvg", "first", 1, 1, 0));
+        m.put(ValidationOutcome.CHILD_RATIO,             new SearchRequest(d(5), "mel", false, d(12), "pvg", "economy", 1, 3, 0));
+        m.put(ValidationOutcome.INFANT_IN_EMERGENCY_ROW, new SearchRequest(d(5), "mel", true, d(12), "pvg", "economy", 1, 0, 1));
+        m.put(ValidationOutcome.INFANT_IN_BUSINESS,      new SearchRequest(d(5), "mel", false, d(12), "pvg", "business", 1, 0, 1));
+        m.put(ValidationOutcome.INFANT_RATIO,            new SearchRequest(d(5), "mel", false, d(12), "pvg", "economy", 1, 0, 2));
+        return m;
+    }
+
+    /**
+     * Realistic traffic: mostly valid searches over the next year, with a
+     * tail of typos, past dates, bad passenger mixes and emergency-row requests.
+     */
+    public static SearchRequest[] mixed(int n, long seed) {
+        Random rnd = new Random(seed);
+        SearchRequest[] out = new SearchRequest[n];
+        for (int i = 0; i < n; i++) {
+            int dep = rnd.nextInt(100) < 3 ? -1 - rnd.nextInt(30) : rnd.nextInt(365);
+            String from = AIRPORTS[rnd.nextInt(AIRPORTS.length)];
+            String to = AIRPORTS[rnd.nextInt(AIRPORTS.length)];
+            if (rnd.nextInt(100) < 2) to = "xxx";
+            String cls = CLASSES[rnd.nextInt(100) < 70 ? 0 : rnd.nextInt(CLASSES.length)];
+            if (rnd.nextInt(100) < 1) cls = "econ";
+            String depDate = rnd.nextInt(200) == 0 ? "31/04/2030" : d(dep);
+            int adults = 1 + rnd.nextInt(3);
+            int children = rnd.nextInt(100) < 25 ? rnd.nextInt(4) : 0;
+            int infants = rnd.nextInt(100) < 10 ? rnd.nextInt(2) + 1 : 0;
+            boolean emergency = rnd.nextInt(100) < 5;
+            out[i] = new SearchRequest(depDate, from, emergency, d(dep + rnd.nextInt(21) - 1), to, cls,
+                    adults, children, infants);
+        }
+        return out;
+    }
+}
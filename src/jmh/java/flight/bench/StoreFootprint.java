@@ -0,0 +1,115 @@
+// src/jmh/java/flight/bench/StoreFootprint.java
+package flight.bench;
+
+import flight.FlightSearch;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidatedSearch;
+import flight.wire.SearchStore;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Heap footprint and GC cost of keeping accepted searches as FlightSearch
+ * objects versus in a SearchStore. Not a JMH benchmark: run each mode in its
+ * own JVM so the two live sets never share a heap.
+ *
+ * <pre>
+ *   java -Xmx2g -XX:+UseG1GC -cp target/benchmarks.jar flight.bench.StoreFootprint heap    [count]
+ *   java -Xmx2g -XX:+UseG1GC -cp target/benchmarks.jar flight.bench.StoreFootprint offheap [count]
+ * </pre>
+ *
+ * Reports retained heap per search, the pause of a full collection with the
+ * live set in place, and young-collection pauses while short-lived garbage
+ * is allocated alongside it.
+ */
+public final class StoreFootprint {
+
+    private static final int CHURN_ROUNDS = 200;
+
+    private StoreFootprint() {
+    }
+
+    public static void main(String[] args) {
+        String mode = args.length > 0 ? args[0] : "offheap";
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+
+        TodayProvider today = new TodayProvider(Requests.CLOCK);
+        FlightSearchValidator validator = new FlightSearchValidator(today, new OutcomeCounters());
+        List<FlightSearch> objects = new ArrayList<>();
+        SearchStore store = new SearchStore();
+
+        long before = usedAfterGc();
+        long seed = 1;
+        int kept = 0;
+        while (kept < count) {
+            for (SearchRequest r : Requests.mixed(4096, seed++)) {
+                if (kept == count) break;
+                if ("heap".equals(mode)) {
+                    FlightSearch f = new FlightSearch(validator);
+                    if (f.runFlightSearch(r.departureDate(), r.departureAirportCode(), r.emergencyRowSeating(),
+                            r.returnDate(), r.destinationAirportCode(), r.seatingClass(),
+                            r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount())) {
+                        objects.add(f);
+                        kept++;
+                    }
+                } else {
+                    Optional<ValidatedSearch> v = validator.validate(r);
+                    if (v.isPresent()) {
+                        store.append(v.get());
+                        kept++;
+                    }
+                }
+            }
+        }
+        long retained = usedAfterGc() - before;
+
+        long[] full = gcTotals();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        long[] afterFull = gcTotals();
+
+        long sink = 0;
+        long[] young = gcTotals();
+        for (int round = 0; round < CHURN_ROUNDS; round++) {
+            for (SearchRequest r : Requests.mixed(4096, round)) {
+                sink += r.departureDate().length();
+            }
+        }
+        long[] afterYoung = gcTotals();
+
+        System.out.printf("mode=%s searches=%d live=%d%n", mode, kept, objects.size() + store.size());
+        System.out.printf("retained heap      %,d bytes (%.1f bytes/search)%n", retained, (double) retained / kept);
+        System.out.printf("off-heap reserved  %,d bytes%n", store.reservedBytes());
+        System.out.printf("full GC            %.1f ms avg over %d%n",
+                (double) (afterFull[1] - full[1]) / Math.max(1, afterFull[0] - full[0]), afterFull[0] - full[0]);
+        System.out.printf("churn GCs          %d collections, %d ms total (sink %d)%n",
+                afterYoung[0] - young[0], afterYoung[1] - young[1], sink);
+    }
+
+    private static long usedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /** Collection count and accumulated time (ms) over all collectors. */
+    private static long[] gcTotals() {
+        long count = 0, millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count  += Math.max(0, gc.getCollectionCount());
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+}
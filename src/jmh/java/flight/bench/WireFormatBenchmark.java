@@ -0,0 +1,89 @@
+// src/jmh/java/flight/bench/WireFormatBenchmark.java
+package flight.bench;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import flight.wire.SearchCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String validation versus validating the 16-byte SearchCodec records of the
+ * same mixed workload, plus the one-off cost of encoding a request.
+ * The records sit back to back in a heap or direct buffer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireFormatBenchmark {
+
+    private static final int N = 4096;
+
+    @State(Scope.Thread)
+    public static class Records {
+        @Param({"heap", "direct"})
+        public String buffer;
+
+        ByteBuffer bytes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            bytes = "direct".equals(buffer)
+                    ? ByteBuffer.allocateDirect(N * SearchCodec.SIZE)
+                    : ByteBuffer.allocate(N * SearchCodec.SIZE);
+            SearchRequest[] mixed = Requests.mixed(N, 11L);
+            for (int i = 0; i < N; i++) {
+                SearchCodec.encode(mixed[i], bytes, i * SearchCodec.SIZE);
+            }
+        }
+    }
+
+    private FlightSearchValidator validator;
+    private SearchRequest[] mixed;
+    private long today;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TodayProvider todayProvider = new TodayProvider(Requests.CLOCK);
+        validator = new FlightSearchValidator(todayProvider, new OutcomeCounters());
+        mixed = Requests.mixed(N, 11L);
+        today = todayProvider.epochDay();
+    }
+
+    @Benchmark
+    public ValidationOutcome validateStrings() {
+        return validator.check(mixed[next++ & (N - 1)]);
+    }
+
+    @Benchmark
+    public ValidationOutcome checkBytes(Records r) {
+        return SearchCodec.check(r.bytes, (next++ & (N - 1)) * SearchCodec.SIZE, today);
+    }
+
+    @Benchmark
+    public ByteBuffer encode(Records r) {
+        int i = next++ & (N - 1);
+        SearchCodec.encode(mixed[i], r.bytes, i * SearchCodec.SIZE);
+        return r.bytes;
+    }
+}
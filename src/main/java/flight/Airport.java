@@ -0,0 +1,66 @@
+// src/main/java/flight/Airport.java
+package flight;
+
+/**
+ * Allowed airports with dense ordinal codes (0..6), used as the decoded form
+ * of departureAirportCode / destinationAirportCode.
+ */
+public enum Airport {
+    SYD("syd"),
+    MEL("mel"),
+    LAX("lax"),
+    CDG("cdg"),
+    DEL("del"),
+    PVG("pvg"),
+    DOH("doh");
+
+    /** Number of airports; ordinals are 0..COUNT-1. */
+    public static final int COUNT = 7;
+
+    private static final Airport[] BY_ORDINAL = values();
+
+    // Perfect hash over the allowed codes: (c0 + 6*c1 + c2) & 15 is collision-free for them
+    private static final Airport[] BY_HASH = new Airport[16];
+
+    static {
+        for (Airport a : BY_ORDINAL) {
+            int h = hash(a.code.charAt(0), a.code.charAt(1), a.code.charAt(2));
+            if (BY_HASH[h] != null) throw new AssertionError("hash collision: " + a + " / " + BY_HASH[h]);
+            BY_HASH[h] = a;
+        }
+    }
+
+    private final String code;
+
+    Airport(String code) {
+        this.code = code;
+    }
+
+    /** Lowercase code as used in search requests, e.g. "mel". */
+    public String code() {
+        return code;
+    }
+
+    /** Bit of this airport in an airport bitmask. */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static Airport ofOrdinal(int ordinal) {
+        return BY_ORDINAL[ordinal];
+    }
+
+    /** Ordinal of the lowercase code, or FlightRules.UNKNOWN (null / not allowed). */
+    public static int ordinalOf(CharSequence code) {
+        if (code == null || code.length() != 3) return FlightRules.UNKNOWN;
+        char c0 = code.charAt(0), c1 = code.charAt(1), c2 = code.charAt(2);
+        Airport a = BY_HASH[hash(c0, c1, c2)];
+        if (a == null) return FlightRules.UNKNOWN;
+        String s = a.code;
+        return (s.charAt(0) == c0 && s.charAt(1) == c1 && s.charAt(2) == c2) ? a.ordinal() : FlightRules.UNKNOWN;
+    }
+
+    static int hash(int c0, int c1, int c2) {
+        return (c0 + 6 * c1 + c2) & 15;
+    }
+}
@@ -0,0 +1,86 @@
+// src/main/java/flight/CalendarMatrix.java
+package flight;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of every (departure, return) pair of a calendar search: row i is
+ * departure {@code firstDeparture + i}, column j is return
+ * {@code firstReturn + j}. One outcome code per cell, row-major. Immutable.
+ */
+public final class CalendarMatrix {
+
+    private final long firstDeparture;
+    private final long firstReturn;
+    private final int  departureDays;
+    private final int  returnDays;
+    private final byte[] reasons;
+
+    CalendarMatrix(long firstDeparture, long firstReturn, int departureDays, int returnDays, byte[] reasons) {
+        this.firstDeparture = firstDeparture;
+        this.firstReturn    = firstReturn;
+        this.departureDays  = departureDays;
+        this.returnDays     = returnDays;
+        this.reasons        = reasons;
+    }
+
+    public int departureDays() { return departureDays; }
+    public int returnDays()    { return returnDays; }
+
+    /** Epoch-day of row {@code i}. */
+    public long departureEpochDay(int i) {
+        return firstDeparture + checkIndex(i, departureDays);
+    }
+
+    /** Epoch-day of column {@code j}. */
+    public long returnEpochDay(int j) {
+        return firstReturn + checkIndex(j, returnDays);
+    }
+
+    public ValidationOutcome outcome(int i, int j) {
+        return ValidationOutcome.ofCode(reasons[cell(i, j)]);
+    }
+
+    public boolean isAccepted(int i, int j) {
+        return reasons[cell(i, j)] == ValidationOutcome.ACCEPTED.code();
+    }
+
+    /** Number of accepted cells. */
+    public int acceptedCount() {
+        int n = 0;
+        for (byte r : reasons) {
+            if (r == ValidationOutcome.ACCEPTED.code()) n++;
+        }
+        return n;
+    }
+
+    /** Outcome codes, row-major (a copy). */
+    public byte[] reasons() {
+        return reasons.clone();
+    }
+
+    /** One line per departure date: the date, then '+' for an accepted return date and '.' otherwise. */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(departureDays * (returnDays + 12));
+        for (int i = 0; i < departureDays; i++) {
+            sb.append(LocalDate.ofEpochDay(firstDeparture + i)).append(' ');
+            for (int j = 0; j < returnDays; j++) {
+                sb.append(isAccepted(i, j) ? '+' : '.');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private int cell(int i, int j) {
+        return checkIndex(i, departureDays) * returnDays + checkIndex(j, returnDays);
+    }
+
+    private static int checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,93 @@
+// src/main/java/flight/CalendarSearch.java
+package flight;
+
+import java.time.Clock;
+import java.util.Arrays;
+
+/**
+ * Flexible-date search: validates a request for every departure date within
+ * ±N days of its departure date and every return date within ±M days of its
+ * return date, giving a (2N+1) x (2M+1) {@link CalendarMatrix}.
+ *
+ * Only Conditions 6 and 8 depend on the dates, so the class/airport checks,
+ * the two date parses and the passenger-mix checks run once per search.
+ * Each row then needs two comparisons: a departure in the past fills the row,
+ * otherwise return dates before the departure get Condition 8 and the rest
+ * the passenger outcome. Every cell equals what FlightRules.check would
+ * report for that pair of dates. If either date does not parse there is no
+ * window to move; every cell is then INVALID_DATE (or an earlier failure)
+ * and the matrix dates count from 1970-01-01.
+ */
+public final class CalendarSearch {
+
+    /** Largest flexibility on either date. */
+    public static final int MAX_FLEX_DAYS = 183;
+
+    private final TodayProvider today;
+
+    public CalendarSearch() {
+        this(TodayProvider.systemDefault());
+    }
+
+    /** Uses the given clock for "today" (Condition 6). */
+    public CalendarSearch(Clock clock) {
+        this(new TodayProvider(clock));
+    }
+
+    public CalendarSearch(TodayProvider today) {
+        this.today = today;
+    }
+
+    /** Calendar of ±{@code flexDays} around both dates of the request. */
+    public CalendarMatrix search(SearchRequest request, int flexDays) {
+        return search(request, flexDays, flexDays);
+    }
+
+    /** Calendar of ±{@code departureFlexDays} around the departure date and ±{@code returnFlexDays} around the return. */
+    public CalendarMatrix search(SearchRequest request, int departureFlexDays, int returnFlexDays) {
+        if (departureFlexDays < 0 || departureFlexDays > MAX_FLEX_DAYS
+                || returnFlexDays < 0 || returnFlexDays > MAX_FLEX_DAYS) {
+            throw new IllegalArgumentException("Flex days must be 0.." + MAX_FLEX_DAYS + ": "
+                    + departureFlexDays + "/" + returnFlexDays);
+        }
+        final int rows = 2 * departureFlexDays + 1;
+        final int cols = 2 * returnFlexDays + 1;
+        final byte[] reasons = new byte[rows * cols];
+
+        long dep = DmyDateParser.parseEpochDay(request.departureDate());
+        long ret = DmyDateParser.parseEpochDay(request.returnDate());
+        long firstDep = dep == DmyDateParser.INVALID ? 0 : dep - departureFlexDays;
+        long firstRet = ret == DmyDateParser.INVALID ? 0 : ret - returnFlexDays;
+
+        // Date-independent conditions, once
+        int seatingClass = FlightRules.seatingClassCode(request.seatingClass());
+        ValidationOutcome fixed = FlightRules.checkRoute(seatingClass,
+                FlightRules.airportCode(request.departureAirportCode()),
+                FlightRules.airportCode(request.destinationAirportCode()));
+        if (fixed == ValidationOutcome.ACCEPTED && (dep == DmyDateParser.INVALID || ret == DmyDateParser.INVALID)) {
+            fixed = ValidationOutcome.INVALID_DATE;
+        }
+        if (fixed != ValidationOutcome.ACCEPTED) {
+            Arrays.fill(reasons, fixed.code());
+            return new CalendarMatrix(firstDep, firstRet, rows, cols, reasons);
+        }
+        byte passengers = FlightRules.checkPassengers(seatingClass, request.emergencyRowSeating(),
+                request.adultPassengerCount(), request.childPassengerCount(), request.infantPassengerCount()).code();
+
+        // Conditions 6 and 8 per row
+        long t = today.epochDay();
+        for (int i = 0; i < rows; i++) {
+            long d = firstDep + i;
+            int from = i * cols;
+            if (d < t) {
+                Arrays.fill(reasons, from, from + cols, ValidationOutcome.DEPARTURE_IN_PAST.code());
+                continue;
+            }
+            // Columns whose return date is before d fail Condition 8
+            int split = (int) Math.max(0, Math.min(cols, d - firstRet));
+            Arrays.fill(reasons, from, from + split, ValidationOutcome.RETURN_BEFORE_DEPARTURE.code());
+            Arrays.fill(reasons, from + split, from + cols, passengers);
+        }
+        return new CalendarMatrix(firstDep, firstRet, rows, cols, reasons);
+    }
+}
@@ -0,0 +1,129 @@
+// src/main/java/flight/DmyDateParser.java
+package flight;
+
+/**
+ * Allocation-free parser for the STRICT dd/MM/uuuu date layout.
+ *
+ * Accepts exactly the strings that
+ * {@code LocalDate.parse(s, DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT))}
+ * accepts, but returns the epoch-day as a primitive and signals bad input with
+ * {@link #INVALID} instead of an exception.
+ *
+ * The common case is the fixed 10-character form (4-digit year), which is read
+ * digit by digit at fixed positions. Longer inputs follow the formatter's
+ * "uuuu" rules: a '+' sign is required once the year exceeds 4 digits, a '-' sign
+ * is allowed for any year except zero, and at most 19 year digits are read.
+ */
+public final class DmyDateParser {
+
+    /** Returned for any string the strict formatter would reject. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int  MIN_YEAR_DIGITS = 4;
+    private static final int  MAX_YEAR_DIGITS = 19;
+    private static final long MAX_YEAR        = 999_999_999L; // Year.MAX_VALUE / ChronoField.YEAR range
+
+    private static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+
+    private DmyDateParser() {
+    }
+
+    /**
+     * Parses STRICT dd/MM/uuuu. Returns the epoch-day, or {@link #INVALID} if invalid.
+     */
+    public static long parseEpochDay(CharSequence dmy) {
+        if (dmy == null) return INVALID;
+        final int len = dmy.length();
+        if (len < 10) return INVALID;
+
+        // dd/MM/ prefix is identical for every accepted length
+        int d1 = digit(dmy.charAt(0)), d2 = digit(dmy.charAt(1));
+        int m1 = digit(dmy.charAt(3)), m2 = digit(dmy.charAt(4));
+        if ((d1 | d2 | m1 | m2) < 0 || dmy.charAt(2) != '/' || dmy.charAt(5) != '/') return INVALID;
+        int day   = d1 * 10 + d2;
+        int month = m1 * 10 + m2;
+
+        long year;
+        if (len == 10) {
+            int y1 = digit(dmy.charAt(6)), y2 = digit(dmy.charAt(7));
+            int y3 = digit(dmy.charAt(8)), y4 = digit(dmy.charAt(9));
+            if ((y1 | y2 | y3 | y4) < 0) return INVALID;
+            year = y1 * 1000 + y2 * 100 + y3 * 10 + y4;
+        } else {
+            year = parseSignedYear(dmy, len);
+            if (year == INVALID) return INVALID;
+        }
+
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Epoch-day for a proleptic year/month/day, or {@link #INVALID} if the
+     * combination does not exist (STRICT resolver semantics).
+     */
+    public static long epochDay(long year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) return INVALID;
+
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    public static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // Year with optional sign, starting at index 6 (length is at least 11 here).
+    private static long parseSignedYear(CharSequence dmy, int len) {
+        int pos = 6;
+        char sign = dmy.charAt(pos);
+        if (sign == '+' || sign == '-') pos++;
+
+        int digits = len - pos;
+        if (digits < MIN_YEAR_DIGITS || digits > MAX_YEAR_DIGITS) return INVALID;
+        if (sign == '+' && digits <= MIN_YEAR_DIGITS) return INVALID; // '+' only when the pad is exceeded
+        if (sign != '+' && sign != '-' && digits > MIN_YEAR_DIGITS) return INVALID; // '+' required beyond the pad
+
+        long value = 0;
+        boolean overflow = false;
+        for (int i = pos; i < len; i++) {
+            int dg = digit(dmy.charAt(i));
+            if (dg < 0) return INVALID;
+            if (!overflow) {
+                value = value * 10 + dg;
+                overflow = value > MAX_YEAR;
+            }
+        }
+        if (sign == '-') {
+            if (value == 0) return INVALID; // minus zero is not allowed
+            value = -value;
+        }
+        return overflow ? INVALID : value;
+    }
+
+    static int digit(char ch) {
+        int v = ch - '0';
+        return (v >= 0 && v <= 9) ? v : -1;
+    }
+}
@@ -0,0 +1,128 @@
+// src/main/java/flight/DmyDateWindow.java
+package flight;
+
+import java.time.LocalDate;
+
+/**
+ * Precomputed (year, month, day) → epoch-day table for a rolling booking
+ * horizon (yesterday through today+days), in front of {@link DmyDateParser}.
+ *
+ * Almost every search date falls in the next year or two. For a 10-character
+ * input the day, month and year digits are read in place and index straight
+ * into the table: one slot per (year, month, day-of-month) of the years the
+ * horizon touches, padded to 16 months of 32 days so the slot is a few
+ * shifts. A validity bitmap marks the slots that are real dates inside the
+ * horizon (which also covers month 0, month 13 and day 0), so a lookup is
+ * two range tests, one bitmap read and one offset read, with no calendar
+ * arithmetic. Anything else, or a date outside the horizon, goes to the
+ * strict parser, so results are identical.
+ *
+ * The table is an immutable value behind a volatile reference. When a
+ * caller passes a different "today" (midnight passed) a new table is built
+ * and swapped in as a whole; readers see the old or the new one, never a mix.
+ */
+public final class DmyDateWindow {
+
+    /** Horizon used by the validator and the batch path: two years of bookings. */
+    public static final int DEFAULT_DAYS = 730;
+
+    /** Days before today that are still in the table (late searches around midnight). */
+    public static final int PAST_DAYS = 1;
+
+    private static final int MAX_DAYS = 1 << 16;
+
+    private static final int DAY_BITS   = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int YEAR_SLOTS = 1 << (MONTH_BITS + DAY_BITS);
+
+    private final int days;
+    private volatile Table table;
+
+    private static final class Table {
+        final long today;
+        final long firstDay;
+        final int firstYear;
+        final int years;
+        final long[] valid;  // one bit per slot: a real date inside the horizon
+        final int[] offsets; // epoch-day - firstDay, per slot
+
+        Table(long today, int days) {
+            this.today    = today;
+            this.firstDay = today - PAST_DAYS;
+            LocalDate first = LocalDate.ofEpochDay(firstDay);
+            LocalDate last  = LocalDate.ofEpochDay(today + days);
+            // Only years 0000..9999 have a 10-char form
+            this.firstYear = Math.max(first.getYear(), 0);
+            this.years     = Math.max(0, Math.min(last.getYear(), 9999) - firstYear + 1);
+            this.valid     = new long[(years * YEAR_SLOTS + 63) >>> 6];
+            this.offsets   = new int[years * YEAR_SLOTS];
+            LocalDate date = first;
+            for (int i = 0; i <= days + PAST_DAYS; i++, date = date.plusDays(1)) {
+                if (date.getYear() < 0) continue;
+                if (date.getYear() > 9999) break;
+                int slot = slot(date.getYear() - firstYear, date.getMonthValue(), date.getDayOfMonth());
+                valid[slot >>> 6] |= 1L << slot;
+                offsets[slot] = i;
+            }
+        }
+
+        static int slot(int yearOffset, int month, int day) {
+            return (yearOffset << (MONTH_BITS + DAY_BITS)) | (month << DAY_BITS) | day;
+        }
+
+        /** Epoch-day of a dd/MM/yyyy string inside the horizon, else INVALID. */
+        long lookup(CharSequence dmy) {
+            int d1 = DmyDateParser.digit(dmy.charAt(0)), d2 = DmyDateParser.digit(dmy.charAt(1));
+            int m1 = DmyDateParser.digit(dmy.charAt(3)), m2 = DmyDateParser.digit(dmy.charAt(4));
+            int y1 = DmyDateParser.digit(dmy.charAt(6)), y2 = DmyDateParser.digit(dmy.charAt(7));
+            int y3 = DmyDateParser.digit(dmy.charAt(8)), y4 = DmyDateParser.digit(dmy.charAt(9));
+            if ((d1 | d2 | m1 | m2 | y1 | y2 | y3 | y4) < 0) {
+                return DmyDateParser.INVALID;
+            }
+            int day        = d1 * 10 + d2;
+            int month      = m1 * 10 + m2;
+            int yearOffset = y1 * 1000 + y2 * 100 + y3 * 10 + y4 - firstYear;
+            // Unsigned compare also rejects years before the table
+            if (((month >>> MONTH_BITS) | (day >>> DAY_BITS)) != 0 || Integer.compareUnsigned(yearOffset, years) >= 0) {
+                return DmyDateParser.INVALID;
+            }
+            int slot = slot(yearOffset, month, day);
+            return (valid[slot >>> 6] & (1L << slot)) != 0 ? firstDay + offsets[slot] : DmyDateParser.INVALID;
+        }
+    }
+
+    /** Horizon of yesterday through today+days, built on first use. */
+    public DmyDateWindow(int days) {
+        if (days < 0 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("Window length out of range: " + days);
+        }
+        this.days = days;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    /**
+     * Same result as {@link DmyDateParser#parseEpochDay}; {@code today} is the
+     * epoch-day the horizon is counted from.
+     */
+    public long parseEpochDay(CharSequence dmy, long today) {
+        if (dmy != null && dmy.length() == 10 && dmy.charAt(2) == '/' && dmy.charAt(5) == '/') {
+            Table t = table;
+            if (t == null || t.today != today) t = rollTo(today);
+            long epochDay = t.lookup(dmy);
+            if (epochDay != DmyDateParser.INVALID) return epochDay;
+        }
+        return DmyDateParser.parseEpochDay(dmy);
+    }
+
+    private synchronized Table rollTo(long today) {
+        Table t = table;
+        if (t == null || t.today != today) {
+            t = new Table(today, days);
+            table = t;
+        }
+        return t;
+    }
+}
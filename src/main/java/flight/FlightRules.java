@@ -0,0 +1,194 @@
+// src/main/java/flight/FlightRules.java
+package flight;
+
+/**
+ * The validation rules of runFlightSearch over decoded primitives.
+ *
+ * Strings are decoded once (seating class and airports to their enum
+ * ordinals, dates to epoch-days); after that every condition is an int/long
+ * comparison or a class-bitmask test. Both the single-request and the batch
+ * entry points go through {@link #check}, so they cannot drift apart.
+ *
+ * The passenger-mix conditions only see small bounded inputs, so they are
+ * evaluated once per combination at class load (from
+ * {@link #checkPassengersBranchy}) and looked up afterwards.
+ */
+public final class FlightRules {
+
+    /** Decoded value for an unknown airport or seating class. */
+    public static final int UNKNOWN = -1;
+
+    /** {@link #check} as a RuleChain. */
+    public static final RuleChain CHAIN = FlightRules::check;
+
+    // Class sets as SeatingClass bitmasks
+    static final int EMERGENCY_ROW_CLASSES    = SeatingClass.ECONOMY.bit();  // Updated Condition 10
+    static final int CHILD_FORBIDDEN_CLASSES  = SeatingClass.FIRST.bit();    // Condition 2
+    static final int INFANT_FORBIDDEN_CLASSES = SeatingClass.BUSINESS.bit(); // Condition 3
+
+    // Passenger-mix tables over adults x children x infants x class x emergency flag: the outcome
+    // code per cell, and one accepted bit per cell. Counts 0..9 are the legal range; each count
+    // axis is padded to 16 so the index is a few shifts and one mask test covers every bound
+    private static final int MIX_COUNT_BITS = 4;
+    private static final int MIX_CELLS      = 1 << (3 * MIX_COUNT_BITS + 3);
+    private static final byte[] MIX_OUTCOMES = buildMixOutcomes();
+    private static final long[] MIX_ALLOWED  = buildMixAllowed(MIX_OUTCOMES);
+
+    private FlightRules() {
+    }
+
+    /** SeatingClass ordinal, or UNKNOWN (null / not allowed). */
+    public static int seatingClassCode(String seatingClass) {
+        return SeatingClass.ordinalOf(seatingClass);
+    }
+
+    /** Airport ordinal, or UNKNOWN (null / not allowed). */
+    public static int airportCode(String airport) {
+        return Airport.ordinalOf(airport);
+    }
+
+    /** Ordinal of a pre-decoded seating class, UNKNOWN for null. */
+    public static int code(SeatingClass seatingClass) {
+        return seatingClass == null ? UNKNOWN : seatingClass.ordinal();
+    }
+
+    /** Ordinal of a pre-decoded airport, UNKNOWN for null. */
+    public static int code(Airport airport) {
+        return airport == null ? UNKNOWN : airport.ordinal();
+    }
+
+    /**
+     * Runs every condition in runFlightSearch order and returns the first that fails.
+     * Dates are epoch-days, DmyDateParser.INVALID when unparseable.
+     */
+    public static ValidationOutcome check(int seatingClass, int departureAirport, int destinationAirport,
+                                          long departureDay, long returnDay, long today,
+                                          boolean emergencyRowSeating,
+                                          int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+
+        ValidationOutcome route = checkRoute(seatingClass, departureAirport, destinationAirport);
+        if (route != ValidationOutcome.ACCEPTED) return route;
+
+        // Dates strict format, valid combination, non past, and return >= departure
+        if (departureDay == DmyDateParser.INVALID || returnDay == DmyDateParser.INVALID) {
+            return ValidationOutcome.INVALID_DATE;
+        }
+        if (departureDay < today) return ValidationOutcome.DEPARTURE_IN_PAST;      // Condition 6
+        if (returnDay < departureDay) return ValidationOutcome.RETURN_BEFORE_DEPARTURE; // Condition 8
+
+        return checkPassengers(seatingClass, emergencyRowSeating,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+    }
+
+    /** Class and airport conditions, the ones {@link #check} runs before the dates. */
+    public static ValidationOutcome checkRoute(int seatingClass, int departureAirport, int destinationAirport) {
+        // Seating class must be valid
+        if (seatingClass == UNKNOWN) return ValidationOutcome.INVALID_CLASS;
+
+        // Airports must be valid and different
+        if (departureAirport == UNKNOWN || destinationAirport == UNKNOWN) return ValidationOutcome.INVALID_AIRPORT;
+        if (departureAirport == destinationAirport) return ValidationOutcome.SAME_AIRPORT;
+
+        return ValidationOutcome.ACCEPTED;
+    }
+
+    /**
+     * Passenger-mix conditions, the ones {@link #check} runs after the dates.
+     * The seating class must already be known (see {@link #checkRoute}).
+     * Counts of 0..15 are answered from a table, anything else by the rules.
+     */
+    public static ValidationOutcome checkPassengers(int seatingClass, boolean emergencyRowSeating,
+                                                    int adultPassengerCount, int childPassengerCount,
+                                                    int infantPassengerCount) {
+        if (inMixTable(seatingClass, adultPassengerCount, childPassengerCount, infantPassengerCount)) {
+            return ValidationOutcome.ofCode(MIX_OUTCOMES[mixIndex(seatingClass, emergencyRowSeating,
+                    adultPassengerCount, childPassengerCount, infantPassengerCount)]);
+        }
+        return checkPassengersBranchy(seatingClass, emergencyRowSeating,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+    }
+
+    /** True when {@link #checkPassengers} would accept: one bit test for counts of 0..15. */
+    public static boolean passengerMixAllowed(int seatingClass, boolean emergencyRowSeating,
+                                              int adultPassengerCount, int childPassengerCount,
+                                              int infantPassengerCount) {
+        if (inMixTable(seatingClass, adultPassengerCount, childPassengerCount, infantPassengerCount)) {
+            int i = mixIndex(seatingClass, emergencyRowSeating,
+                    adultPassengerCount, childPassengerCount, infantPassengerCount);
+            return (MIX_ALLOWED[i >>> 6] & (1L << i)) != 0;
+        }
+        return checkPassengersBranchy(seatingClass, emergencyRowSeating,
+                adultPassengerCount, childPassengerCount, infantPassengerCount).isAccepted();
+    }
+
+    /** The passenger-mix conditions as written in the specification; the tables are built from this. */
+    public static ValidationOutcome checkPassengersBranchy(int seatingClass, boolean emergencyRowSeating,
+                                                           int adultPassengerCount, int childPassengerCount,
+                                                           int infantPassengerCount) {
+        // Passenger totals: at least 1 and <= 9
+        int total = adultPassengerCount + childPassengerCount + infantPassengerCount;
+        if (total < 1 || total > 9) return ValidationOutcome.PASSENGER_TOTAL;    // Condition 1
+
+        // Emergency row: only economy
+        if (emergencyRowSeating && !inClassSet(EMERGENCY_ROW_CLASSES, seatingClass)) {
+            return ValidationOutcome.EMERGENCY_ROW_CLASS;                          // Updated Condition 10
+        }
+
+        // Children rules
+        if (childPassengerCount > 0) {
+            if (emergencyRowSeating) return ValidationOutcome.CHILD_IN_EMERGENCY_ROW;         // Condition 2
+            if (inClassSet(CHILD_FORBIDDEN_CLASSES, seatingClass)) return ValidationOutcome.CHILD_IN_FIRST; // Condition 2
+            if (adultPassengerCount * 2 < childPassengerCount) return ValidationOutcome.CHILD_RATIO; // Condition 4
+        }
+
+        // Infants rules
+        if (infantPassengerCount > 0) {
+            if (emergencyRowSeating) return ValidationOutcome.INFANT_IN_EMERGENCY_ROW;        // Condition 3
+            if (inClassSet(INFANT_FORBIDDEN_CLASSES, seatingClass)) return ValidationOutcome.INFANT_IN_BUSINESS; // Condition 3
+            if (adultPassengerCount < infantPassengerCount) return ValidationOutcome.INFANT_RATIO; // Condition 5
+        }
+
+        return ValidationOutcome.ACCEPTED;
+    }
+
+    private static boolean inMixTable(int seatingClass, int adults, int children, int infants) {
+        return (((adults | children | infants) & -(1 << MIX_COUNT_BITS)) | (seatingClass & -SeatingClass.COUNT)) == 0;
+    }
+
+    private static int mixIndex(int seatingClass, boolean emergencyRowSeating, int adults, int children, int infants) {
+        return adults << (2 * MIX_COUNT_BITS + 3) | children << (MIX_COUNT_BITS + 3) | infants << 3
+                | seatingClass << 1 | (emergencyRowSeating ? 1 : 0);
+    }
+
+    private static byte[] buildMixOutcomes() {
+        byte[] outcomes = new byte[MIX_CELLS];
+        int counts = 1 << MIX_COUNT_BITS;
+        for (int a = 0; a < counts; a++) {
+            for (int c = 0; c < counts; c++) {
+                for (int i = 0; i < counts; i++) {
+                    for (int cls = 0; cls < SeatingClass.COUNT; cls++) {
+                        for (int em = 0; em < 2; em++) {
+                            outcomes[mixIndex(cls, em == 1, a, c, i)] =
+                                    checkPassengersBranchy(cls, em == 1, a, c, i).code();
+                        }
+                    }
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    private static long[] buildMixAllowed(byte[] outcomes) {
+        long[] bits = new long[(MIX_CELLS + 63) >>> 6];
+        for (int i = 0; i < MIX_CELLS; i++) {
+            if (outcomes[i] == ValidationOutcome.ACCEPTED.code()) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    private static boolean inClassSet(int classMask, int seatingClass) {
+        return (classMask & (1 << seatingClass)) != 0;
+    }
+}
@@ -1,15 +1,18 @@
 // src/main/java/flight/FlightSearch.java
 package flight;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
-import java.util.Set;
+import flight.jfr.DateParseFailedEvent;
+
+import java.time.Clock;
+import java.util.function.Consumer;
 
 /**
  * Validates a flight search request and, if valid, stores the parameters
  * in the object's attributes. If invalid, attributes remain unchanged.
  *
+ * Compatibility wrapper over the stateless FlightSearchValidator: the stored
+ * attributes are one immutable ValidatedSearch, swapped in on success.
+ *
  * Spec highlights:
  *  - Total passengers 1..9
  *  - Children: not allowed in emergency rows or first class; <= 2 per adult
@@ -22,36 +25,47 @@ import java.util.Set;
  */
 public class FlightSearch {
 
-    // Stored attributes (as strings per assignment starter code)
-    private String  departureDate;          // DD/MM/YYYY
-    private String  departureAirportCode;   // e.g., "mel"
-    private boolean emergencyRowSeating;
-    private String  returnDate;             // DD/MM/YYYY
-    private String  destinationAirportCode; // e.g., "pvg"
-    private String  seatingClass;           // economy | premium economy | business | first
-    private int     adultPassengerCount;
-    private int     childPassengerCount;
-    private int     infantPassengerCount;
+    private static final FlightSearchValidator DEFAULT_VALIDATOR = new FlightSearchValidator();
+
+    // Attribute values before any successful search (null/0/false defaults)
+    private static final SearchRequest NONE = new SearchRequest(null, null, false, null, null, null, 0, 0, 0);
+
+    private final FlightSearchValidator validator;
 
-    // Allowed values
-    private static final Set<String> ALLOWED_AIRPORTS =
-            Set.of("syd", "mel", "lax", "cdg", "del", "pvg", "doh");
+    // Stored attributes: the last accepted search, published as one immutable
+    // value so readers never see a mix of two searches (null until the first success)
+    private volatile ValidatedSearch current;
 
-    private static final Set<String> ALLOWED_CLASSES =
-            Set.of("economy", "premium economy", "business", "first");
+    // Receives an accepted search from the validator (one instance, so the reject path allocates nothing)
+    private final Consumer<ValidatedSearch> store = s -> this.current = s;
 
-    private static final DateTimeFormatter STRICT_DMY =
-            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+    // Rows decoded per pass in runFlightSearchBatch (scratch columns stay in L1/L2)
+    static final int BATCH_CHUNK = 1024;
 
     /**
-     * Parses STRICT dd/MM/yyyy. Returns null if invalid.
+     * Epoch-day of a STRICT dd/MM/yyyy date, or DmyDateParser.INVALID (reported
+     * as a DateParseFailed event). Dates in the booking horizon come from the
+     * caller's DmyDateWindow, anything else from DmyDateParser.
      */
-    private LocalDate parseStrict(String dmy) {
-        try {
-            return LocalDate.parse(dmy, STRICT_DMY);
-        } catch (Exception ex) {
-            return null;
+    private static long parseStrict(String field, String dmy, DmyDateWindow dates, long today) {
+        long epochDay = dates.parseEpochDay(dmy, today);
+        if (epochDay == DmyDateParser.INVALID) {
+            DateParseFailedEvent.report(field, dmy);
         }
+        return epochDay;
+    }
+
+    public FlightSearch() {
+        this(DEFAULT_VALIDATOR);
+    }
+
+    /** Uses the given clock for "today" (Condition 6), e.g. a fixed clock in tests. */
+    public FlightSearch(Clock clock) {
+        this(new FlightSearchValidator(clock));
+    }
+
+    public FlightSearch(FlightSearchValidator validator) {
+        this.validator = validator;
     }
 
     /**
@@ -61,102 +75,140 @@ public class FlightSearch {
     public boolean runFlightSearch(String departureDate, String departureAirportCode, boolean emergencyRowSeating,
                                    String returnDate, String destinationAirportCode, String seatingClass,
                                    int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        return runFlightSearchOutcome(departureDate, departureAirportCode, emergencyRowSeating,
+                returnDate, destinationAirportCode, seatingClass,
+                adultPassengerCount, childPassengerCount, infantPassengerCount).isAccepted();
+    }
 
-        // Keep a snapshot of previous values (so we can restore on invalid)
-        final String  prevDepDate   = this.departureDate;
-        final String  prevDepCode   = this.departureAirportCode;
-        final boolean prevEmergency = this.emergencyRowSeating;
-        final String  prevRetDate   = this.returnDate;
-        final String  prevDstCode   = this.destinationAirportCode;
-        final String  prevClass     = this.seatingClass;
-        final int     prevAdults    = this.adultPassengerCount;
-        final int     prevChildren  = this.childPassengerCount;
-        final int     prevInfants   = this.infantPassengerCount;
-
-        // ---- Validation starts ----
-
-        // Seating class must be valid
-        if (seatingClass == null || !ALLOWED_CLASSES.contains(seatingClass)) {
-            return false;
-        }
-
-        // Airports must be valid and different
-        if (departureAirportCode == null || destinationAirportCode == null
-                || !ALLOWED_AIRPORTS.contains(departureAirportCode)
-                || !ALLOWED_AIRPORTS.contains(destinationAirportCode)
-                || departureAirportCode.equals(destinationAirportCode)) {
-            return false;
-        }
-
-        // Dates strict format, valid combination, non past, and return >= departure
-        LocalDate dep = parseStrict(departureDate);
-        LocalDate ret = parseStrict(returnDate);
-        if (dep == null || ret == null) return false;
+    /**
+     * Same as runFlightSearch, but returns why a request was rejected: ACCEPTED
+     * (attributes stored) or the first failing condition (attributes unchanged).
+     * Nothing is allocated on the reject path.
+     */
+    public ValidationOutcome runFlightSearchOutcome(String departureDate, String departureAirportCode,
+                                                    boolean emergencyRowSeating, String returnDate,
+                                                    String destinationAirportCode, String seatingClass,
+                                                    int adultPassengerCount, int childPassengerCount,
+                                                    int infantPassengerCount) {
+
+        // On success the validator hands over what it decoded; attributes are stored there
+        return validator.check(departureDate, departureAirportCode, emergencyRowSeating,
+                returnDate, destinationAirportCode, seatingClass,
+                adultPassengerCount, childPassengerCount, infantPassengerCount, store);
+    }
 
-        LocalDate today = LocalDate.now();
-        if (dep.isBefore(today)) return false;        // Condition 6
-        if (ret.isBefore(dep)) return false;          // Condition 8
+    /**
+     * Overload of runFlightSearch for callers that already hold decoded airports
+     * and seating class; validation then runs on their ordinals only. Stored
+     * attributes are the same lowercase codes the String overload would store.
+     */
+    public boolean runFlightSearch(String departureDate, Airport departureAirport, boolean emergencyRowSeating,
+                                   String returnDate, Airport destinationAirport, SeatingClass seatingClass,
+                                   int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
 
-        // Passenger totals: at least 1 and <= 9
-        int total = adultPassengerCount + childPassengerCount + infantPassengerCount;
-        if (total < 1 || total > 9) return false;     // Condition 1
+        return validator.check(departureDate, departureAirport, emergencyRowSeating,
+                returnDate, destinationAirport, seatingClass,
+                adultPassengerCount, childPassengerCount, infantPassengerCount, store).isAccepted();
+    }
 
-        // Emergency row: only economy
-        if (emergencyRowSeating && !"economy".equals(seatingClass)) {
-            return false;                              // Updated Condition 10
-        }
+    /**
+     * Validates every row of a batch with exactly the rules of runFlightSearch.
+     * accepted[i] and reasons[i] receive the result for row i (reasons holds
+     * ValidationOutcome codes). "Today" is read once for the whole batch and no
+     * FlightSearch state is touched. Returns the number of accepted rows.
+     */
+    public static int runFlightSearchBatch(SearchBatch batch, boolean[] accepted, byte[] reasons) {
+        return runFlightSearchBatch(batch, accepted, reasons, TodayProvider.systemDefault());
+    }
 
-        // Children rules
-        if (childPassengerCount > 0) {
-            if (emergencyRowSeating) return false;     // Condition 2 (no children in emergency)
-            if ("first".equals(seatingClass)) return false; // Condition 2 (no children in first)
-            if (adultPassengerCount * 2 < childPassengerCount) return false; // Condition 4
+    /** Batch validation with "today" taken from the given provider. */
+    public static int runFlightSearchBatch(SearchBatch batch, boolean[] accepted, byte[] reasons,
+                                           TodayProvider todayProvider) {
+        final int n = batch.size();
+        if (accepted.length < n || reasons.length < n) {
+            throw new IllegalArgumentException("Output arrays shorter than batch size " + n);
         }
+        final long[] counts = new long[ValidationOutcome.COUNT];
+        validateRange(batch, 0, n, accepted, reasons, todayProvider.dateWindow(), todayProvider.epochDay(), counts);
+        return (int) counts[ValidationOutcome.ACCEPTED.code()];
+    }
 
-        // Infants rules
-        if (infantPassengerCount > 0) {
-            if (emergencyRowSeating) return false;     // Condition 3 (no infants in emergency)
-            if ("business".equals(seatingClass)) return false; // Condition 3 (no infants in business)
-            if (adultPassengerCount < infantPassengerCount) return false;    // Condition 5
+    /**
+     * Validates rows [start, end) of a batch in BATCH_CHUNK pieces and adds one
+     * to counts[code] for every row's outcome. Touches only those rows of the
+     * output arrays, so disjoint ranges can run on different threads.
+     */
+    static void validateRange(SearchBatch batch, int start, int end, boolean[] accepted, byte[] reasons,
+                              DmyDateWindow dates, long today, long[] counts) {
+        final int[]  classes = new int[BATCH_CHUNK];
+        final int[]  from    = new int[BATCH_CHUNK];
+        final int[]  to      = new int[BATCH_CHUNK];
+        final long[] dep     = new long[BATCH_CHUNK];
+        final long[] ret     = new long[BATCH_CHUNK];
+
+        for (int base = start; base < end; base += BATCH_CHUNK) {
+            final int len = Math.min(BATCH_CHUNK, end - base);
+
+            // Pass 1: decode the string columns into primitive scratch columns
+            for (int j = 0; j < len; j++) {
+                int i = base + j;
+                classes[j] = FlightRules.seatingClassCode(batch.seatingClasses[i]);
+                from[j]    = FlightRules.airportCode(batch.departureAirportCodes[i]);
+                to[j]      = FlightRules.airportCode(batch.destinationAirportCodes[i]);
+                dep[j]     = parseStrict("departureDate", batch.departureDates[i], dates, today);
+                ret[j]     = parseStrict("returnDate", batch.returnDates[i], dates, today);
+            }
+
+            // Pass 2: rule chain over primitives only
+            for (int j = 0; j < len; j++) {
+                int i = base + j;
+                ValidationOutcome outcome = FlightRules.check(classes[j], from[j], to[j], dep[j], ret[j], today,
+                        batch.emergencyRowSeating[i], batch.adultPassengerCounts[i],
+                        batch.childPassengerCounts[i], batch.infantPassengerCounts[i]);
+                accepted[i] = outcome.isAccepted();
+                reasons[i]  = outcome.code();
+                counts[outcome.code()]++;
+            }
         }
-
-        // ---- If we got here, everything is valid: store attributes ----
-        this.departureDate          = departureDate;
-        this.departureAirportCode   = departureAirportCode;
-        this.emergencyRowSeating    = emergencyRowSeating;
-        this.returnDate             = returnDate;
-        this.destinationAirportCode = destinationAirportCode;
-        this.seatingClass           = seatingClass;
-        this.adultPassengerCount    = adultPassengerCount;
-        this.childPassengerCount    = childPassengerCount;
-        this.infantPassengerCount   = infantPassengerCount;
-
-        return true;
     }
 
     // -------- Getters (for tests / demo) --------
-    public String  getDepartureDate()          { return departureDate; }
-    public String  getDepartureAirportCode()   { return departureAirportCode; }
-    public boolean isEmergencyRowSeating()     { return emergencyRowSeating; }
-    public String  getReturnDate()             { return returnDate; }
-    public String  getDestinationAirportCode() { return destinationAirportCode; }
-    public String  getSeatingClass()           { return seatingClass; }
-    public int     getAdultPassengerCount()    { return adultPassengerCount; }
-    public int     getChildPassengerCount()    { return childPassengerCount; }
-    public int     getInfantPassengerCount()   { return infantPassengerCount; }
+    public String  getDepartureDate()          { return stored().departureDate(); }
+    public String  getDepartureAirportCode()   { return stored().departureAirportCode(); }
+    public boolean isEmergencyRowSeating()     { return stored().emergencyRowSeating(); }
+    public String  getReturnDate()             { return stored().returnDate(); }
+    public String  getDestinationAirportCode() { return stored().destinationAirportCode(); }
+    public String  getSeatingClass()           { return stored().seatingClass(); }
+    public int     getAdultPassengerCount()    { return stored().adultPassengerCount(); }
+    public int     getChildPassengerCount()    { return stored().childPassengerCount(); }
+    public int     getInfantPassengerCount()   { return stored().infantPassengerCount(); }
+
+    // Decoded dates of the stored search, DmyDateParser.INVALID before any success
+    public long getDepartureEpochDay() { ValidatedSearch s = current; return s == null ? DmyDateParser.INVALID : s.departureEpochDay(); }
+    public long getReturnEpochDay()    { ValidatedSearch s = current; return s == null ? DmyDateParser.INVALID : s.returnEpochDay(); }
+    public long getTripDays()          { ValidatedSearch s = current; return s == null ? DmyDateParser.INVALID : s.tripDays(); }
+
+    /** The last accepted search as one consistent value, or null if none yet. */
+    public ValidatedSearch getValidatedSearch() { return current; }
+
+    private SearchRequest stored() {
+        ValidatedSearch s = current;
+        return s == null ? NONE : s.request();
+    }
 
     @Override
     public String toString() {
+        SearchRequest r = stored();
         return "FlightSearch{" +
-                "dep='" + departureDate + '\'' +
-                ", from='" + departureAirportCode + '\'' +
-                ", emergency=" + emergencyRowSeating +
-                ", ret='" + returnDate + '\'' +
-                ", to='" + destinationAirportCode + '\'' +
-                ", class='" + seatingClass + '\'' +
-                ", adults=" + adultPassengerCount +
-                ", children=" + childPassengerCount +
-                ", infants=" + infantPassengerCount +
+                "dep='" + r.departureDate() + '\'' +
+                ", from='" + r.departureAirportCode() + '\'' +
+                ", emergency=" + r.emergencyRowSeating() +
+                ", ret='" + r.returnDate() + '\'' +
+                ", to='" + r.destinationAirportCode() + '\'' +
+                ", class='" + r.seatingClass() + '\'' +
+                ", adults=" + r.adultPassengerCount() +
+                ", children=" + r.childPassengerCount() +
+                ", infants=" + r.infantPassengerCount() +
                 '}';
     }
 
@@ -0,0 +1,204 @@
+// src/main/java/flight/FlightSearchValidator.java
+package flight;
+
+import flight.jfr.DateParseFailedEvent;
+import flight.jfr.FlightSearchValidatedEvent;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Stateless validator for search requests. Holds no per-request state, so one
+ * instance can be shared by every request thread without locking.
+ *
+ * Every check is counted per outcome in {@link #counters()}. "Today" for
+ * Condition 6 comes from a TodayProvider, so tests can pin the date with a
+ * fixed Clock. Dates in the next DmyDateWindow.DEFAULT_DAYS days are looked up
+ * rather than parsed. The rules themselves are a {@link RuleChain}: FlightRules
+ * by default, or e.g. a {@link ValidationCache} that answers repeated requests
+ * without re-running them. Each check is also a JFR FlightSearchValidated
+ * event, and each unparseable date a DateParseFailed event, when enabled.
+ */
+public final class FlightSearchValidator {
+
+    private final TodayProvider today;
+    private final OutcomeCounters counters;
+    private final RuleChain rules;
+    private final ValidationProbe probe;
+    private final DmyDateWindow dates = new DmyDateWindow(DmyDateWindow.DEFAULT_DAYS);
+
+    public FlightSearchValidator() {
+        this(TodayProvider.systemDefault(), new OutcomeCounters());
+    }
+
+    public FlightSearchValidator(Clock clock) {
+        this(new TodayProvider(clock), new OutcomeCounters());
+    }
+
+    public FlightSearchValidator(OutcomeCounters counters) {
+        this(TodayProvider.systemDefault(), counters);
+    }
+
+    public FlightSearchValidator(TodayProvider today, OutcomeCounters counters) {
+        this(today, counters, FlightRules.CHAIN);
+    }
+
+    /**
+     * Validator that runs decoded requests through {@code rules}, e.g. a
+     * ValidationCache or a configured rule engine, instead of FlightRules.
+     */
+    public FlightSearchValidator(TodayProvider today, OutcomeCounters counters, RuleChain rules) {
+        this(today, counters, rules, ValidationProbe.NONE);
+    }
+
+    /** As above, with every check reported to {@code probe} (e.g. latency metrics). */
+    public FlightSearchValidator(TodayProvider today, OutcomeCounters counters, RuleChain rules,
+                                 ValidationProbe probe) {
+        this.today    = today;
+        this.counters = counters;
+        this.rules    = rules;
+        this.probe    = probe;
+    }
+
+    public TodayProvider today() {
+        return today;
+    }
+
+    public OutcomeCounters counters() {
+        return counters;
+    }
+
+    public RuleChain rules() {
+        return rules;
+    }
+
+    public ValidationProbe probe() {
+        return probe;
+    }
+
+    /** The result cache, or null if this validator runs the rules every time. */
+    public ValidationCache cache() {
+        return rules instanceof ValidationCache ? (ValidationCache) rules : null;
+    }
+
+    /**
+     * Validates according to all conditions and returns ACCEPTED or the first
+     * failing condition. The only object created on either path is the JFR
+     * event, which escape analysis removes when JFR is not recording.
+     */
+    public ValidationOutcome check(String departureDate, String departureAirportCode, boolean emergencyRowSeating,
+                                   String returnDate, String destinationAirportCode, String seatingClass,
+                                   int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        return check(departureDate, departureAirportCode, emergencyRowSeating,
+                returnDate, destinationAirportCode, seatingClass,
+                adultPassengerCount, childPassengerCount, infantPassengerCount, null);
+    }
+
+    /**
+     * Same as the String overload for callers that already hold decoded
+     * airports and class (null counts as not allowed).
+     */
+    public ValidationOutcome check(String departureDate, Airport departureAirport, boolean emergencyRowSeating,
+                                   String returnDate, Airport destinationAirport, SeatingClass seatingClass,
+                                   int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        return check(departureDate, departureAirport, emergencyRowSeating,
+                returnDate, destinationAirport, seatingClass,
+                adultPassengerCount, childPassengerCount, infantPassengerCount, null);
+    }
+
+    /**
+     * String check that also hands an accepted request, with the airports,
+     * class and dates it has just decoded, to {@code onAccept} (if not null).
+     * A reject creates nothing beyond the JFR event, as in the public check.
+     */
+    ValidationOutcome check(String departureDate, String departureAirportCode, boolean emergencyRowSeating,
+                            String returnDate, String destinationAirportCode, String seatingClass,
+                            int adultPassengerCount, int childPassengerCount, int infantPassengerCount,
+                            Consumer<ValidatedSearch> onAccept) {
+        return run(FlightRules.seatingClassCode(seatingClass),
+                FlightRules.airportCode(departureAirportCode), FlightRules.airportCode(destinationAirportCode),
+                departureDate, departureAirportCode, emergencyRowSeating,
+                returnDate, destinationAirportCode, seatingClass,
+                adultPassengerCount, childPassengerCount, infantPassengerCount, null, onAccept);
+    }
+
+    /** Enum check with {@code onAccept}; the stored codes are the enums' lowercase codes. */
+    ValidationOutcome check(String departureDate, Airport departureAirport, boolean emergencyRowSeating,
+                            String returnDate, Airport destinationAirport, SeatingClass seatingClass,
+                            int adultPassengerCount, int childPassengerCount, int infantPassengerCount,
+                            Consumer<ValidatedSearch> onAccept) {
+        return run(FlightRules.code(seatingClass),
+                FlightRules.code(departureAirport), FlightRules.code(destinationAirport),
+                departureDate, departureAirport == null ? null : departureAirport.code(), emergencyRowSeating,
+                returnDate, destinationAirport == null ? null : destinationAirport.code(),
+                seatingClass == null ? null : seatingClass.code(),
+                adultPassengerCount, childPassengerCount, infantPassengerCount, null, onAccept);
+    }
+
+    public ValidationOutcome check(SearchRequest request) {
+        return check(request.departureDate(), request.departureAirportCode(), request.emergencyRowSeating(),
+                request.returnDate(), request.destinationAirportCode(), request.seatingClass(),
+                request.adultPassengerCount(), request.childPassengerCount(), request.infantPassengerCount());
+    }
+
+    /**
+     * Validates according to all conditions. Returns the validated search, or
+     * empty if any condition fails.
+     */
+    public Optional<ValidatedSearch> validate(SearchRequest request) {
+        ValidatedSearch[] accepted = new ValidatedSearch[1];
+        run(FlightRules.seatingClassCode(request.seatingClass()),
+                FlightRules.airportCode(request.departureAirportCode()),
+                FlightRules.airportCode(request.destinationAirportCode()),
+                request.departureDate(), request.departureAirportCode(), request.emergencyRowSeating(),
+                request.returnDate(), request.destinationAirportCode(), request.seatingClass(),
+                request.adultPassengerCount(), request.childPassengerCount(), request.infantPassengerCount(),
+                request, s -> accepted[0] = s);
+        return Optional.ofNullable(accepted[0]);
+    }
+
+    private long parseDate(String field, String dmy, long today) {
+        long epochDay = dates.parseEpochDay(dmy, today);
+        if (epochDay == DmyDateParser.INVALID) {
+            DateParseFailedEvent.report(field, dmy);
+        }
+        return epochDay;
+    }
+
+    /**
+     * The check pipeline behind every entry point. An accepted search goes to
+     * {@code onAccept} (if not null) with {@code request}, or with a request
+     * built from the fields when that is null.
+     */
+    private ValidationOutcome run(int seatingClass, int departureAirport, int destinationAirport,
+                                  String departureDate, String departureAirportCode, boolean emergencyRowSeating,
+                                  String returnDate, String destinationAirportCode, String seatingClassCode,
+                                  int adultPassengerCount, int childPassengerCount, int infantPassengerCount,
+                                  SearchRequest request, Consumer<ValidatedSearch> onAccept) {
+        FlightSearchValidatedEvent event = new FlightSearchValidatedEvent();
+        event.begin();
+        long token = probe.start();
+        long t   = today.epochDay();
+        long dep = parseDate("departureDate", departureDate, t);
+        long ret = parseDate("returnDate", returnDate, t);
+        ValidationOutcome outcome = rules.check(seatingClass, departureAirport, destinationAirport,
+                dep, ret, t, emergencyRowSeating,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+        counters.record(outcome);
+        probe.finish(token, outcome, departureAirport, destinationAirport);
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit(departureAirportCode, destinationAirportCode, seatingClassCode,
+                    outcome.isAccepted(), outcome.name());
+        }
+        if (onAccept != null && outcome.isAccepted()) {
+            onAccept.accept(new ValidatedSearch(request != null ? request : new SearchRequest(
+                    departureDate, departureAirportCode, emergencyRowSeating,
+                    returnDate, destinationAirportCode, seatingClassCode,
+                    adultPassengerCount, childPassengerCount, infantPassengerCount),
+                    departureAirport, destinationAirport, seatingClass, dep, ret));
+        }
+        return outcome;
+    }
+}
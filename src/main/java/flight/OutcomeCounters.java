@@ -0,0 +1,51 @@
+// src/main/java/flight/OutcomeCounters.java
+package flight;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-outcome counters (accepted plus one per rejection reason).
+ * Safe for concurrent writers; reads are a consistent-enough snapshot for monitoring.
+ */
+public final class OutcomeCounters {
+
+    private final LongAdder[] counts = new LongAdder[ValidationOutcome.COUNT];
+
+    public OutcomeCounters() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(ValidationOutcome outcome) {
+        counts[outcome.ordinal()].increment();
+    }
+
+    public long count(ValidationOutcome outcome) {
+        return counts[outcome.ordinal()].sum();
+    }
+
+    /** Total number of rejections across all reasons. */
+    public long rejected() {
+        long total = 0;
+        for (int i = 1; i < counts.length; i++) {
+            total += counts[i].sum();
+        }
+        return total;
+    }
+
+    /** Current counts indexed by ValidationOutcome code. */
+    public long[] snapshot() {
+        long[] out = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            out[i] = counts[i].sum();
+        }
+        return out;
+    }
+
+    public void reset() {
+        for (LongAdder c : counts) {
+            c.reset();
+        }
+    }
+}
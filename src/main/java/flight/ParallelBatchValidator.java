@@ -0,0 +1,98 @@
+// src/main/java/flight/ParallelBatchValidator.java
+package flight;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join driver for runFlightSearchBatch over very large batches.
+ *
+ * The row range is split in halves until a piece is at most
+ * {@link #LEAF_ROWS} rows (a whole number of BATCH_CHUNKs); each leaf runs the
+ * same two-pass chunk loop as the single-threaded batch, with its own
+ * per-reason counters, and the counters are added up as the tasks join.
+ * Rows are independent, and "today" and the provider's date window are
+ * taken once before forking, so the accepted/reasons arrays and the counts
+ * are identical for any pool size.
+ */
+public final class ParallelBatchValidator {
+
+    /** Largest range a single task validates without splitting. */
+    public static final int LEAF_ROWS = 16 * FlightSearch.BATCH_CHUNK;
+
+    private final ForkJoinPool pool;
+
+    /** Validator on the common pool. */
+    public ParallelBatchValidator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelBatchValidator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    /** Same as {@link #validate(SearchBatch, boolean[], byte[], TodayProvider)} with the system clock. */
+    public long[] validate(SearchBatch batch, boolean[] accepted, byte[] reasons) {
+        return validate(batch, accepted, reasons, TodayProvider.systemDefault());
+    }
+
+    /**
+     * Validates every row like FlightSearch.runFlightSearchBatch and returns the
+     * number of rows per outcome, indexed by ValidationOutcome code.
+     */
+    public long[] validate(SearchBatch batch, boolean[] accepted, byte[] reasons, TodayProvider todayProvider) {
+        final int n = batch.size();
+        if (accepted.length < n || reasons.length < n) {
+            throw new IllegalArgumentException("Output arrays shorter than batch size " + n);
+        }
+        return pool.invoke(new RangeTask(batch, 0, n, accepted, reasons,
+                todayProvider.dateWindow(), todayProvider.epochDay()));
+    }
+
+    private static final class RangeTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final SearchBatch batch;
+        private final int start;
+        private final int end;
+        private final boolean[] accepted;
+        private final byte[] reasons;
+        private final DmyDateWindow dates;
+        private final long today;
+
+        RangeTask(SearchBatch batch, int start, int end, boolean[] accepted, byte[] reasons,
+                  DmyDateWindow dates, long today) {
+            this.batch    = batch;
+            this.start    = start;
+            this.end      = end;
+            this.accepted = accepted;
+            this.reasons  = reasons;
+            this.dates    = dates;
+            this.today    = today;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (end - start <= LEAF_ROWS) {
+                long[] counts = new long[ValidationOutcome.COUNT];
+                FlightSearch.validateRange(batch, start, end, accepted, reasons, dates, today, counts);
+                return counts;
+            }
+            // Split on a chunk boundary so every leaf but the last is whole chunks
+            int mid = start + ((end - start) / 2 / FlightSearch.BATCH_CHUNK) * FlightSearch.BATCH_CHUNK;
+            RangeTask left  = new RangeTask(batch, start, mid, accepted, reasons, dates, today);
+            RangeTask right = new RangeTask(batch, mid, end, accepted, reasons, dates, today);
+            left.fork();
+            long[] counts = right.compute();
+            long[] other  = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other[i];
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+// src/main/java/flight/RuleChain.java
+package flight;
+
+/**
+ * The validation rules over a decoded request: ACCEPTED, or the first
+ * condition that fails in runFlightSearch order.
+ *
+ * {@link FlightRules#check} is the built-in chain; a rule engine or a cache
+ * in front of one can stand in for it wherever a validator runs the rules.
+ */
+@FunctionalInterface
+public interface RuleChain {
+
+    /** Dates are epoch-days, DmyDateParser.INVALID when unparseable; airports and class are ordinals or UNKNOWN. */
+    ValidationOutcome check(int seatingClass, int departureAirport, int destinationAirport,
+                            long departureDay, long returnDay, long today,
+                            boolean emergencyRowSeating,
+                            int adultPassengerCount, int childPassengerCount, int infantPassengerCount);
+}
@@ -0,0 +1,46 @@
+// src/main/java/flight/SearchBatch.java
+package flight;
+
+/**
+ * Struct-of-arrays holder for many search requests: row i of every column is
+ * one runFlightSearch call. Columns are shared, not copied.
+ */
+public final class SearchBatch {
+
+    final String[]  departureDates;
+    final String[]  departureAirportCodes;
+    final boolean[] emergencyRowSeating;
+    final String[]  returnDates;
+    final String[]  destinationAirportCodes;
+    final String[]  seatingClasses;
+    final int[]     adultPassengerCounts;
+    final int[]     childPassengerCounts;
+    final int[]     infantPassengerCounts;
+
+    private final int size;
+
+    public SearchBatch(String[] departureDates, String[] departureAirportCodes, boolean[] emergencyRowSeating,
+                       String[] returnDates, String[] destinationAirportCodes, String[] seatingClasses,
+                       int[] adultPassengerCounts, int[] childPassengerCounts, int[] infantPassengerCounts) {
+        this.size = departureDates.length;
+        if (departureAirportCodes.length != size || emergencyRowSeating.length != size
+                || returnDates.length != size || destinationAirportCodes.length != size
+                || seatingClasses.length != size || adultPassengerCounts.length != size
+                || childPassengerCounts.length != size || infantPassengerCounts.length != size) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        this.departureDates          = departureDates;
+        this.departureAirportCodes   = departureAirportCodes;
+        this.emergencyRowSeating     = emergencyRowSeating;
+        this.returnDates             = returnDates;
+        this.destinationAirportCodes = destinationAirportCodes;
+        this.seatingClasses          = seatingClasses;
+        this.adultPassengerCounts    = adultPassengerCounts;
+        this.childPassengerCounts    = childPassengerCounts;
+        this.infantPassengerCounts   = infantPassengerCounts;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,84 @@
+// src/main/java/flight/SearchCoalescer.java
+package flight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Single-flight in front of a search: while a search for a request is
+ * running, callers with an identical request wait on its CompletableFuture
+ * instead of running it again.
+ *
+ * The first caller for a key (the leader) runs the search on its own thread;
+ * the others get the leader's future. The entry is removed just before the
+ * future completes, so a request arriving after that starts a new search and
+ * never sees an old result: this is not a cache. A failed search fails the
+ * future of every caller that joined it.
+ *
+ * The key is the SearchRequest itself, i.e. all nine runFlightSearch
+ * parameters. Validation is strict (exact lowercase codes, zero-padded
+ * DD/MM/YYYY), so two requests with the same decoded parameters are already
+ * equal records; folding anything further together would change what some
+ * caller gets back.
+ *
+ * The search must not call back into the same coalescer with the same
+ * request: it would wait on its own future.
+ */
+public final class SearchCoalescer<R> {
+
+    private final Function<SearchRequest, ? extends R> search;
+    private final ConcurrentHashMap<SearchRequest, CompletableFuture<R>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed  = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SearchCoalescer(Function<SearchRequest, ? extends R> search) {
+        this.search = search;
+    }
+
+    /**
+     * Result of the search for this request: the one already in flight for an
+     * equal request, or a new one run on this thread (the returned future is
+     * then complete).
+     */
+    public CompletableFuture<R> search(SearchRequest request) {
+        CompletableFuture<R> mine = new CompletableFuture<>();
+        CompletableFuture<R> running = inFlight.putIfAbsent(request, mine);
+        if (running != null) {
+            coalesced.increment();
+            return running;
+        }
+        executed.increment();
+        try {
+            R result = search.apply(request);
+            inFlight.remove(request, mine);
+            mine.complete(result);
+        } catch (Throwable t) {
+            inFlight.remove(request, mine);
+            mine.completeExceptionally(t);
+        }
+        return mine;
+    }
+
+    /** Same as {@link #search(SearchRequest)}, waiting for the result. */
+    public R join(SearchRequest request) {
+        return search(request).join();
+    }
+
+    /** Searches actually run. */
+    public long executed() {
+        return executed.sum();
+    }
+
+    /** Requests answered by joining a search already in flight. */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /** Searches running right now. */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
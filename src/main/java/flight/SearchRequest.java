@@ -0,0 +1,17 @@
+// src/main/java/flight/SearchRequest.java
+package flight;
+
+/**
+ * Immutable search parameters, in runFlightSearch parameter order.
+ * No validation happens here; see FlightSearchValidator.
+ */
+public record SearchRequest(String  departureDate,          // DD/MM/YYYY
+                            String  departureAirportCode,   // e.g., "mel"
+                            boolean emergencyRowSeating,
+                            String  returnDate,             // DD/MM/YYYY
+                            String  destinationAirportCode, // e.g., "pvg"
+                            String  seatingClass,           // economy | premium economy | business | first
+                            int     adultPassengerCount,
+                            int     childPassengerCount,
+                            int     infantPassengerCount) {
+}
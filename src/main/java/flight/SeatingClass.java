@@ -0,0 +1,62 @@
+// src/main/java/flight/SeatingClass.java
+package flight;
+
+/**
+ * Allowed seating classes with dense ordinal codes (0..3), used as the
+ * decoded form of seatingClass. Rules test class sets as bitmasks of {@link #bit()}.
+ */
+public enum SeatingClass {
+    ECONOMY("economy"),
+    PREMIUM_ECONOMY("premium economy"),
+    BUSINESS("business"),
+    FIRST("first");
+
+    /** Number of classes; ordinals are 0..COUNT-1. */
+    public static final int COUNT = 4;
+
+    private static final SeatingClass[] BY_ORDINAL = values();
+
+    // Perfect hash: the allowed names all have different lengths (7, 15, 8, 5)
+    private static final SeatingClass[] BY_LENGTH = new SeatingClass[16];
+
+    static {
+        for (SeatingClass c : BY_ORDINAL) {
+            if (BY_LENGTH[c.name.length()] != null) throw new AssertionError("length collision: " + c);
+            BY_LENGTH[c.name.length()] = c;
+        }
+    }
+
+    private final String name;
+
+    SeatingClass(String name) {
+        this.name = name;
+    }
+
+    /** Lowercase name as used in search requests, e.g. "premium economy". */
+    public String code() {
+        return name;
+    }
+
+    /** Bit of this class in a class bitmask. */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static SeatingClass ofOrdinal(int ordinal) {
+        return BY_ORDINAL[ordinal];
+    }
+
+    /** Ordinal of the lowercase name, or FlightRules.UNKNOWN (null / not allowed). */
+    public static int ordinalOf(CharSequence name) {
+        if (name == null) return FlightRules.UNKNOWN;
+        int len = name.length();
+        if (len >= BY_LENGTH.length) return FlightRules.UNKNOWN;
+        SeatingClass c = BY_LENGTH[len];
+        if (c == null) return FlightRules.UNKNOWN;
+        String s = c.name;
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) != name.charAt(i)) return FlightRules.UNKNOWN;
+        }
+        return c.ordinal();
+    }
+}
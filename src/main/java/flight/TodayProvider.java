@@ -0,0 +1,79 @@
+// src/main/java/flight/TodayProvider.java
+package flight;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * "Today" as an epoch-day for Condition 6, cached per calendar day.
+ *
+ * The current day and the millisecond bounds of that day in the clock's zone
+ * are computed once; until the clock leaves those bounds (midnight passes),
+ * {@link #epochDay()} is one clock read and two long comparisons. Thread-safe:
+ * the cached day is an immutable value behind a volatile reference.
+ *
+ * Each provider also owns the DmyDateWindow the batch path parses dates
+ * with, so the window only rolls when this provider's day changes, however
+ * many providers with different clocks are in use at once.
+ */
+public final class TodayProvider {
+
+    private static final TodayProvider SYSTEM_DEFAULT = new TodayProvider(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Day day;
+    private final DmyDateWindow dates = new DmyDateWindow(DmyDateWindow.DEFAULT_DAYS);
+
+    private static final class Day {
+        final long epochDay;
+        final long startMillis; // inclusive
+        final long endMillis;   // exclusive (next midnight)
+
+        Day(long epochDay, long startMillis, long endMillis) {
+            this.epochDay    = epochDay;
+            this.startMillis = startMillis;
+            this.endMillis   = endMillis;
+        }
+    }
+
+    public TodayProvider(Clock clock) {
+        this.clock = clock;
+        this.day = dayAt(clock.millis());
+    }
+
+    /** Provider on the system clock in the default time-zone (what LocalDate.now() uses). */
+    public static TodayProvider systemDefault() {
+        return SYSTEM_DEFAULT;
+    }
+
+    public Clock clock() {
+        return clock;
+    }
+
+    /** Date lookup table counted from this provider's today (built on first use). */
+    DmyDateWindow dateWindow() {
+        return dates;
+    }
+
+    /** Today's epoch-day in the clock's zone. */
+    public long epochDay() {
+        long now = clock.millis();
+        Day d = day;
+        if (now >= d.startMillis && now < d.endMillis) {
+            return d.epochDay;
+        }
+        d = dayAt(now);
+        day = d;
+        return d.epochDay;
+    }
+
+    private Day dayAt(long millis) {
+        ZoneId zone = clock.getZone();
+        LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+        long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end   = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day(date.toEpochDay(), start, end);
+    }
+}
@@ -0,0 +1,44 @@
+// src/main/java/flight/ValidatedSearch.java
+package flight;
+
+/**
+ * A search request that passed every condition, together with its decoded
+ * form (airport/class codes and epoch-days). Immutable, so it can be handed
+ * between threads freely. Only FlightSearchValidator creates instances.
+ */
+public final class ValidatedSearch {
+
+    private final SearchRequest request;
+    private final int  departureAirport;
+    private final int  destinationAirport;
+    private final int  seatingClass;
+    private final long departureEpochDay;
+    private final long returnEpochDay;
+
+    ValidatedSearch(SearchRequest request, int departureAirport, int destinationAirport, int seatingClass,
+                    long departureEpochDay, long returnEpochDay) {
+        this.request            = request;
+        this.departureAirport   = departureAirport;
+        this.destinationAirport = destinationAirport;
+        this.seatingClass       = seatingClass;
+        this.departureEpochDay  = departureEpochDay;
+        this.returnEpochDay     = returnEpochDay;
+    }
+
+    public SearchRequest request()        { return request; }
+    public int     departureAirport()     { return departureAirport; }
+    public int     destinationAirport()   { return destinationAirport; }
+    public int     seatingClass()         { return seatingClass; }
+    public long    departureEpochDay()    { return departureEpochDay; }
+    public long    returnEpochDay()       { return returnEpochDay; }
+
+    /** Days between departure and return (0 for a same-day return). */
+    public long tripDays() {
+        return returnEpochDay - departureEpochDay;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidatedSearch{" + request + '}';
+    }
+}
@@ -0,0 +1,226 @@
+// src/main/java/flight/ValidationCache.java
+package flight;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of rule outcomes keyed by a packed 64-bit request fingerprint.
+ *
+ * A decoded request (airport and class ordinals, emergency flag, the three
+ * passenger counts, departure as an offset from today and the trip length)
+ * packs into 56 bits. Each slot of an open-addressing long[] holds that key,
+ * the outcome, a CLOCK reference bit and a small day tag:
+ *
+ * <pre>
+ *   63            8  7  6   5    4       0
+ *   | key (56 bits) | tag | ref | outcome+1 |
+ * </pre>
+ *
+ * A key lives in one of PROBE consecutive slots after its hash. A miss that
+ * finds the window full runs CLOCK over it: referenced entries get a second
+ * chance, the first unreferenced one is evicted. Slots are read and written
+ * through a VarHandle, so lookups take no locks.
+ *
+ * Condition 6 depends on today, so the table is cleared when today moves
+ * forward. A call with an earlier today than the table's (a thread still
+ * working with yesterday's date just after midnight) bypasses the cache
+ * rather than clearing it again. Entries also carry today's low bits as a
+ * tag, so an entry written by such a thread while the day turned never matches.
+ *
+ * Requests whose fields do not fit the key (unknown airport or class,
+ * unparseable date, a count outside 0..15, dates far out) bypass the cache.
+ * Misses and bypasses go to the wrapped RuleChain (FlightRules by default).
+ */
+public final class ValidationCache implements RuleChain {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int PROBE = 8;
+
+    private static final long OUTCOME_MASK = 0x1FL;
+    private static final long REF_BIT      = 0x20L;
+    private static final int  TAG_SHIFT    = 6;
+    private static final long TAG_MASK     = 0x3L;
+    private static final long MATCH_MASK   = ~(OUTCOME_MASK | REF_BIT);
+    private static final int  KEY_SHIFT    = 8;
+
+    private static final int DEP_OFFSET_BITS = 18;
+    private static final int TRIP_BITS       = 17;
+    private static final long NOT_CACHEABLE  = -1L;
+
+    private final RuleChain rules;
+    private final long[] slots;
+    private final int mask;
+    private volatile long day = Long.MIN_VALUE;
+
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder evictions     = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /** Cache with room for at least {@code capacity} entries (rounded up to a power of two). */
+    public ValidationCache(int capacity) {
+        this(capacity, FlightRules.CHAIN);
+    }
+
+    /** Cache in front of another rule chain; its outcomes must depend only on the arguments. */
+    public ValidationCache(int capacity, RuleChain rules) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Math.max(PROBE, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.rules = rules;
+        this.slots = new long[size];
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Same contract as {@link FlightRules#check}: the cached outcome when this
+     * request was seen today, otherwise the rules are run and the result stored.
+     */
+    @Override
+    public ValidationOutcome check(int seatingClass, int departureAirport, int destinationAirport,
+                                   long departureDay, long returnDay, long today,
+                                   boolean emergencyRowSeating,
+                                   int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        long key = key(seatingClass, departureAirport, destinationAirport, departureDay, returnDay, today,
+                emergencyRowSeating, adultPassengerCount, childPassengerCount, infantPassengerCount);
+        if (key == NOT_CACHEABLE) {
+            return rules.check(seatingClass, departureAirport, destinationAirport, departureDay, returnDay,
+                    today, emergencyRowSeating, adultPassengerCount, childPassengerCount, infantPassengerCount);
+        }
+        if (today != day) {
+            rollOver(today);
+            if (today != day) { // an earlier day than the table's: leave today's entries alone
+                return rules.check(seatingClass, departureAirport, destinationAirport, departureDay, returnDay,
+                        today, emergencyRowSeating, adultPassengerCount, childPassengerCount, infantPassengerCount);
+            }
+        }
+        long probe = (key << KEY_SHIFT) | ((today & TAG_MASK) << TAG_SHIFT);
+        int base = index(key);
+
+        for (int i = 0; i < PROBE; i++) {
+            int slot = (base + i) & mask;
+            long v = (long) SLOTS.getAcquire(slots, slot);
+            if ((v & MATCH_MASK) == probe && (v & OUTCOME_MASK) != 0) {
+                if ((v & REF_BIT) == 0) {
+                    SLOTS.compareAndSet(slots, slot, v, v | REF_BIT); // losing the race is fine
+                }
+                hits.increment();
+                return ValidationOutcome.ofCode((int) (v & OUTCOME_MASK) - 1);
+            }
+        }
+
+        misses.increment();
+        ValidationOutcome outcome = rules.check(seatingClass, departureAirport, destinationAirport,
+                departureDay, returnDay, today, emergencyRowSeating,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+        insert(base, probe | (outcome.code() + 1), (today & TAG_MASK) << TAG_SHIFT);
+        return outcome;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /** Entries pushed out by CLOCK to make room (day rollovers are counted separately). */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /** Number of times the table was cleared because today moved forward. */
+    public long invalidations() {
+        return invalidations.sum();
+    }
+
+    /** Drops every entry; counters are kept. */
+    public synchronized void clear() {
+        Arrays.fill(slots, 0L);
+        day = Long.MIN_VALUE;
+    }
+
+    private synchronized void rollOver(long today) {
+        if (today <= day) {
+            return;
+        }
+        if (day != Long.MIN_VALUE) {
+            invalidations.increment();
+        }
+        Arrays.fill(slots, 0L);
+        day = today;
+    }
+
+    private void insert(int base, long entry, long currentTag) {
+        // Free slot first: empty, or left over from another day
+        for (int i = 0; i < PROBE; i++) {
+            int slot = (base + i) & mask;
+            long v = (long) SLOTS.getAcquire(slots, slot);
+            if ((v == 0 || (v & (TAG_MASK << TAG_SHIFT)) != currentTag)
+                    && SLOTS.compareAndSet(slots, slot, v, entry)) {
+                return;
+            }
+        }
+        // CLOCK over the window: clear reference bits until an unreferenced entry turns up
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < PROBE; i++) {
+                int slot = (base + i) & mask;
+                long v = (long) SLOTS.getAcquire(slots, slot);
+                if ((v & REF_BIT) != 0) {
+                    SLOTS.compareAndSet(slots, slot, v, v & ~REF_BIT);
+                } else if (SLOTS.compareAndSet(slots, slot, v, entry)) {
+                    evictions.increment();
+                    return;
+                }
+            }
+        }
+        // Every slot kept changing under us; skip caching this one
+    }
+
+    /** Packs a decoded request into 56 bits, or NOT_CACHEABLE. */
+    static long key(int seatingClass, int departureAirport, int destinationAirport,
+                    long departureDay, long returnDay, long today,
+                    boolean emergencyRowSeating,
+                    int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        if (seatingClass == FlightRules.UNKNOWN
+                || departureAirport == FlightRules.UNKNOWN || destinationAirport == FlightRules.UNKNOWN
+                || departureDay == DmyDateParser.INVALID || returnDay == DmyDateParser.INVALID
+                || ((adultPassengerCount | childPassengerCount | infantPassengerCount) & ~0xF) != 0) {
+            return NOT_CACHEABLE;
+        }
+        long depOffset = departureDay - today;
+        long trip = returnDay - departureDay;
+        if (!fitsSigned(depOffset, DEP_OFFSET_BITS) || !fitsSigned(trip, TRIP_BITS)) {
+            return NOT_CACHEABLE;
+        }
+        long k = departureAirport;                                  // 3 bits
+        k = (k << 3) | destinationAirport;                          // 3 bits
+        k = (k << 2) | seatingClass;                                // 2 bits
+        k = (k << 1) | (emergencyRowSeating ? 1 : 0);               // 1 bit
+        k = (k << 4) | adultPassengerCount;                         // 4 bits
+        k = (k << 4) | childPassengerCount;                         // 4 bits
+        k = (k << 4) | infantPassengerCount;                        // 4 bits
+        k = (k << DEP_OFFSET_BITS) | (depOffset & ((1L << DEP_OFFSET_BITS) - 1));
+        k = (k << TRIP_BITS)       | (trip & ((1L << TRIP_BITS) - 1));
+        return k;
+    }
+
+    private static boolean fitsSigned(long value, int bits) {
+        return (value >> (bits - 1)) == 0 || (value >> (bits - 1)) == -1;
+    }
+
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,44 @@
+// src/main/java/flight/ValidationOutcome.java
+package flight;
+
+/**
+ * Result of validating one search request: ACCEPTED, or the first condition
+ * that rejected it (in the order runFlightSearch checks them).
+ *
+ * Constants are preallocated, and {@link #code()} gives a dense primitive code
+ * for columnar outputs such as the batch reason array.
+ */
+public enum ValidationOutcome {
+    ACCEPTED,
+    INVALID_CLASS,            // seating class not in the allowed set
+    INVALID_AIRPORT,          // origin or destination not in the allowed set
+    SAME_AIRPORT,             // origin == destination
+    INVALID_DATE,             // not a STRICT dd/MM/yyyy date
+    DEPARTURE_IN_PAST,        // Condition 6
+    RETURN_BEFORE_DEPARTURE,  // Condition 8
+    PASSENGER_TOTAL,          // Condition 1
+    EMERGENCY_ROW_CLASS,      // Updated Condition 10
+    CHILD_IN_EMERGENCY_ROW,   // Condition 2
+    CHILD_IN_FIRST,           // Condition 2
+    CHILD_RATIO,              // Condition 4
+    INFANT_IN_EMERGENCY_ROW,  // Condition 3
+    INFANT_IN_BUSINESS,       // Condition 3
+    INFANT_RATIO;             // Condition 5
+
+    private static final ValidationOutcome[] BY_CODE = values();
+
+    /** Number of distinct outcomes (size for per-outcome counter arrays). */
+    public static final int COUNT = BY_CODE.length;
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public boolean isAccepted() {
+        return this == ACCEPTED;
+    }
+
+    public static ValidationOutcome ofCode(int code) {
+        return BY_CODE[code];
+    }
+}
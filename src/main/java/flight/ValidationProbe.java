@@ -0,0 +1,23 @@
+// src/main/java/flight/ValidationProbe.java
+package flight;
+
+/**
+ * Instrumentation hook around each validator check. {@link #start} is called
+ * before decoding and returns a token (typically a timestamp) that is handed
+ * back to {@link #finish} with the outcome and the decoded airports.
+ *
+ * Implementations are called on every request thread and must not block.
+ */
+public interface ValidationProbe {
+
+    /** Probe that records nothing. */
+    ValidationProbe NONE = new ValidationProbe() {
+        @Override public long start() { return 0L; }
+        @Override public void finish(long token, ValidationOutcome outcome, int departureAirport, int destinationAirport) { }
+    };
+
+    long start();
+
+    /** Airports are ordinals or FlightRules.UNKNOWN. */
+    void finish(long token, ValidationOutcome outcome, int departureAirport, int destinationAirport);
+}
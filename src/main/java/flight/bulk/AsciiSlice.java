@@ -0,0 +1,46 @@
+// src/main/java/flight/bulk/AsciiSlice.java
+package flight.bulk;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable CharSequence view over a range of single-byte characters in a
+ * ByteBuffer. Lets the String-based decoders (DmyDateParser, Airport,
+ * SeatingClass) read fields straight from a mapped file without creating Strings.
+ */
+final class AsciiSlice implements CharSequence {
+
+    private ByteBuffer buf;
+    private int offset;
+    private int length;
+
+    AsciiSlice set(ByteBuffer buf, int offset, int length) {
+        this.buf    = buf;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buf.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new AsciiSlice().set(buf, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buf.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
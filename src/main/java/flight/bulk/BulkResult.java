@@ -0,0 +1,54 @@
+// src/main/java/flight/bulk/BulkResult.java
+package flight.bulk;
+
+import flight.ValidationOutcome;
+
+/**
+ * Counts from validating a search log (or one byte range of it): rows per
+ * ValidationOutcome, plus lines that were not rows in the log format.
+ */
+public final class BulkResult {
+
+    private final long[] counts = new long[ValidationOutcome.COUNT];
+    private long malformed;
+
+    void record(ValidationOutcome outcome) {
+        counts[outcome.ordinal()]++;
+    }
+
+    void recordMalformed() {
+        malformed++;
+    }
+
+    /** Adds the counts of another (disjoint) range into this one. */
+    public BulkResult merge(BulkResult other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        malformed += other.malformed;
+        return this;
+    }
+
+    public long count(ValidationOutcome outcome) {
+        return counts[outcome.ordinal()];
+    }
+
+    public long accepted() {
+        return counts[ValidationOutcome.ACCEPTED.ordinal()];
+    }
+
+    public long rejected() {
+        return rows() - accepted();
+    }
+
+    /** Rows that decoded and went through validation. */
+    public long rows() {
+        long total = 0;
+        for (long c : counts) total += c;
+        return total;
+    }
+
+    public long malformed() {
+        return malformed;
+    }
+}
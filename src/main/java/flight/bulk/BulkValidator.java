@@ -0,0 +1,155 @@
+// src/main/java/flight/bulk/BulkValidator.java
+package flight.bulk;
+
+import flight.TodayProvider;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays a captured search log through the runFlightSearch rules.
+ *
+ * The file is memory-mapped and every field is decoded straight from the
+ * mapped bytes into a reused SearchRow, so no per-line objects are created.
+ * "Today" is read once per run. With more than one thread, the file is split
+ * into byte ranges aligned to line starts and each range is validated with its
+ * own counters, merged at the end.
+ */
+public final class BulkValidator {
+
+    // Bytes mapped at a time (a mapping is limited to 2 GB) and the longest line supported
+    private static final long WINDOW   = 1L << 28;
+    private static final int  MAX_LINE = 1 << 16;
+
+    private BulkValidator() {
+    }
+
+    public static BulkResult validateFile(Path file, LogFormat format, int threads) throws IOException {
+        return validateFile(file, format, threads, TodayProvider.systemDefault());
+    }
+
+    public static BulkResult validateFile(Path file, LogFormat format, int threads, TodayProvider todayProvider)
+            throws IOException {
+        final long today = todayProvider.epochDay();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] starts = splitAtLines(ch, Math.max(1, threads));
+            if (starts.length == 2) {
+                return validateRange(ch, starts[0], starts[1], format, today);
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(starts.length - 1);
+            try {
+                List<Future<BulkResult>> parts = new ArrayList<>();
+                for (int r = 0; r + 1 < starts.length; r++) {
+                    long start = starts[r], end = starts[r + 1];
+                    parts.add(pool.submit(() -> validateRange(ch, start, end, format, today)));
+                }
+                BulkResult total = new BulkResult();
+                for (Future<BulkResult> part : parts) {
+                    total.merge(part.get());
+                }
+                return total;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while validating " + file, ex);
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                throw new IOException("Validation of " + file + " failed", cause);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Validates every line that starts in [start, end). start must be a line start.
+     */
+    static BulkResult validateRange(FileChannel ch, long start, long end, LogFormat format, long today)
+            throws IOException {
+        final long fileSize = ch.size();
+        final RowParser parser = format.newParser();
+        final SearchRow row = new SearchRow();
+        final BulkResult result = new BulkResult();
+
+        boolean skippingLongLine = false;
+        long pos = start;
+        while (pos < end) {
+            long windowEnd = Math.min(end, pos + WINDOW);
+            long mapEnd    = Math.min(fileSize, windowEnd + MAX_LINE);
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, mapEnd - pos);
+            final int limit = (int) (windowEnd - pos); // lines must start before this
+            final int size  = buf.limit();
+
+            int i = 0;
+            if (skippingLongLine) {
+                int eol = indexOfNewline(buf, 0, size);
+                i = eol < 0 ? limit : eol + 1;
+                skippingLongLine = eol < 0;
+            }
+            while (i < limit) {
+                int eol = indexOfNewline(buf, i, size);
+                if (eol < 0) {
+                    if (mapEnd < fileSize) {    // line longer than MAX_LINE
+                        result.recordMalformed();
+                        skippingLongLine = true;
+                        i = size;
+                        break;
+                    }
+                    eol = size;                  // last line without a terminator
+                }
+                int lineEnd = (eol > i && buf.get(eol - 1) == '\r') ? eol - 1 : eol;
+                switch (parser.parse(buf, i, lineEnd, row)) {
+                    case RowParser.ROW:
+                        result.record(row.check(today));
+                        break;
+                    case RowParser.MALFORMED:
+                        result.recordMalformed();
+                        break;
+                    default:
+                        break;
+                }
+                i = eol + 1;
+            }
+            pos += i;
+        }
+        return result;
+    }
+
+    /** Range boundaries [starts[0]=0, ..., starts[n]=size], each at a line start. */
+    static long[] splitAtLines(FileChannel ch, int ranges) throws IOException {
+        long size = ch.size();
+        if (ranges <= 1 || size < (long) ranges * MAX_LINE) {
+            return new long[]{0, size};
+        }
+        long[] starts = new long[ranges + 1];
+        starts[ranges] = size;
+        ByteBuffer probe = ByteBuffer.allocate(MAX_LINE);
+        for (int r = 1; r < ranges; r++) {
+            long guess = Math.max(starts[r - 1], size * r / ranges);
+            probe.clear();
+            ch.read(probe, guess);
+            probe.flip();
+            int eol = indexOfNewline(probe, 0, probe.limit());
+            starts[r] = eol < 0 ? size : Math.min(size, guess + eol + 1);
+        }
+        return starts;
+    }
+
+    private static int indexOfNewline(ByteBuffer buf, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buf.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,58 @@
+// src/main/java/flight/bulk/CsvRowParser.java
+package flight.bulk;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV rows with the nine runFlightSearch parameters in order:
+ * departureDate,departureAirportCode,emergencyRowSeating,returnDate,
+ * destinationAirportCode,seatingClass,adults,children,infants
+ *
+ * No quoting (no allowed value contains a comma). A header line starting
+ * with "departureDate" and blank lines are skipped.
+ */
+final class CsvRowParser implements RowParser {
+
+    private static final byte[] HEADER = "departureDate".getBytes(StandardCharsets.US_ASCII);
+    private static final int FIELDS = 9;
+
+    private final FieldDecoder decoder = new FieldDecoder();
+    private final int[] bounds = new int[FIELDS + 1]; // field i is [bounds[i], bounds[i+1] - 1)
+
+    @Override
+    public int parse(ByteBuffer buf, int start, int end, SearchRow row) {
+        if (start == end || FieldDecoder.startsWith(buf, start, end, HEADER)) return SKIP;
+
+        int field = 0;
+        bounds[0] = start;
+        for (int i = start; i < end; i++) {
+            if (buf.get(i) == ',') {
+                if (++field == FIELDS) return MALFORMED;
+                bounds[field] = i + 1;
+            }
+        }
+        if (field != FIELDS - 1) return MALFORMED;
+        bounds[FIELDS] = end + 1;
+
+        int emergency = FieldDecoder.bool(buf, bounds[2], bounds[3] - 1);
+        long adults   = FieldDecoder.integer(buf, bounds[6], bounds[7] - 1);
+        long children = FieldDecoder.integer(buf, bounds[7], bounds[8] - 1);
+        long infants  = FieldDecoder.integer(buf, bounds[8], bounds[9] - 1);
+        if (emergency == FieldDecoder.NOT_A_BOOLEAN || adults == FieldDecoder.NOT_A_NUMBER
+                || children == FieldDecoder.NOT_A_NUMBER || infants == FieldDecoder.NOT_A_NUMBER) {
+            return MALFORMED;
+        }
+
+        row.departureDay         = decoder.epochDay(buf, bounds[0], bounds[1] - 1);
+        row.departureAirport     = decoder.airport(buf, bounds[1], bounds[2] - 1);
+        row.emergencyRowSeating  = emergency == 1;
+        row.returnDay            = decoder.epochDay(buf, bounds[3], bounds[4] - 1);
+        row.destinationAirport   = decoder.airport(buf, bounds[4], bounds[5] - 1);
+        row.seatingClass         = decoder.seatingClass(buf, bounds[5], bounds[6] - 1);
+        row.adultPassengerCount  = (int) adults;
+        row.childPassengerCount  = (int) children;
+        row.infantPassengerCount = (int) infants;
+        return ROW;
+    }
+}
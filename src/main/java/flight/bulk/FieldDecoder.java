@@ -0,0 +1,66 @@
+// src/main/java/flight/bulk/FieldDecoder.java
+package flight.bulk;
+
+import flight.Airport;
+import flight.DmyDateParser;
+import flight.SeatingClass;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Field decoders shared by the CSV and JSON Lines parsers. Each works on a
+ * byte range of the buffer and reuses a single slice.
+ */
+final class FieldDecoder {
+
+    /** Marker for a field that is not a valid int / boolean. */
+    static final long NOT_A_NUMBER = Long.MIN_VALUE;
+    static final int  NOT_A_BOOLEAN = -1;
+
+    private final AsciiSlice slice = new AsciiSlice();
+
+    long epochDay(ByteBuffer buf, int start, int end) {
+        return DmyDateParser.parseEpochDay(slice.set(buf, start, end - start));
+    }
+
+    int airport(ByteBuffer buf, int start, int end) {
+        return Airport.ordinalOf(slice.set(buf, start, end - start));
+    }
+
+    int seatingClass(ByteBuffer buf, int start, int end) {
+        return SeatingClass.ordinalOf(slice.set(buf, start, end - start));
+    }
+
+    /** Optional '-' then 1..9 digits, or NOT_A_NUMBER. */
+    static long integer(ByteBuffer buf, int start, int end) {
+        boolean negative = start < end && buf.get(start) == '-';
+        int i = negative ? start + 1 : start;
+        int digits = end - i;
+        if (digits < 1 || digits > 9) return NOT_A_NUMBER;
+        long v = 0;
+        for (; i < end; i++) {
+            int d = buf.get(i) - '0';
+            if (d < 0 || d > 9) return NOT_A_NUMBER;
+            v = v * 10 + d;
+        }
+        return negative ? -v : v;
+    }
+
+    /** 1 for "true", 0 for "false", else NOT_A_BOOLEAN. */
+    static int bool(ByteBuffer buf, int start, int end) {
+        int len = end - start;
+        if (len == 4 && buf.get(start) == 't' && buf.get(start + 1) == 'r'
+                && buf.get(start + 2) == 'u' && buf.get(start + 3) == 'e') return 1;
+        if (len == 5 && buf.get(start) == 'f' && buf.get(start + 1) == 'a' && buf.get(start + 2) == 'l'
+                && buf.get(start + 3) == 's' && buf.get(start + 4) == 'e') return 0;
+        return NOT_A_BOOLEAN;
+    }
+
+    static boolean startsWith(ByteBuffer buf, int start, int end, byte[] prefix) {
+        if (end - start < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (buf.get(start + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+}
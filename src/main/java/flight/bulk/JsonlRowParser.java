@@ -0,0 +1,149 @@
+// src/main/java/flight/bulk/JsonlRowParser.java
+package flight.bulk;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON Lines rows: one flat object per line whose keys are the runFlightSearch
+ * parameter names, e.g.
+ * {"departureDate":"01/12/2025","departureAirportCode":"mel","emergencyRowSeating":false,...}
+ *
+ * All nine keys are required; string fields may be null (decoded like a null
+ * argument). Unknown keys with scalar values are ignored. Escaped strings and
+ * nested values are reported as malformed: no valid field value needs them.
+ */
+final class JsonlRowParser implements RowParser {
+
+    private static final String[] NAMES = {
+            "departureDate", "departureAirportCode", "emergencyRowSeating", "returnDate",
+            "destinationAirportCode", "seatingClass",
+            "adultPassengerCount", "childPassengerCount", "infantPassengerCount"};
+    private static final byte[][] KEYS = new byte[NAMES.length][];
+    private static final int ALL_FIELDS = (1 << NAMES.length) - 1;
+
+    static {
+        for (int i = 0; i < NAMES.length; i++) {
+            KEYS[i] = NAMES[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final FieldDecoder decoder = new FieldDecoder();
+
+    @Override
+    public int parse(ByteBuffer buf, int start, int end, SearchRow row) {
+        int i = skipWhitespace(buf, start, end);
+        if (i == end) return SKIP;
+        if (buf.get(i++) != '{') return MALFORMED;
+
+        row.clear();
+        int seen = 0;
+        i = skipWhitespace(buf, i, end);
+        if (i < end && buf.get(i) == '}') return MALFORMED; // empty object: fields missing
+
+        while (true) {
+            // "key"
+            if (i >= end || buf.get(i) != '"') return MALFORMED;
+            int keyStart = ++i;
+            i = closingQuote(buf, i, end);
+            if (i < 0) return MALFORMED;
+            int field = fieldIndex(buf, keyStart, i);
+            i = skipWhitespace(buf, i + 1, end);
+            if (i >= end || buf.get(i) != ':') return MALFORMED;
+            i = skipWhitespace(buf, i + 1, end);
+            if (i >= end) return MALFORMED;
+
+            // value
+            int valueStart, valueEnd;
+            boolean quoted = buf.get(i) == '"';
+            if (quoted) {
+                valueStart = i + 1;
+                valueEnd = closingQuote(buf, valueStart, end);
+                if (valueEnd < 0) return MALFORMED;
+                i = valueEnd + 1;
+            } else {
+                valueStart = i;
+                while (i < end && !isDelimiter(buf.get(i))) i++;
+                valueEnd = i;
+                if (valueStart == valueEnd) return MALFORMED;
+            }
+
+            if (field >= 0) {
+                if (!assign(field, buf, valueStart, valueEnd, quoted, row)) return MALFORMED;
+                seen |= 1 << field;
+            }
+
+            i = skipWhitespace(buf, i, end);
+            if (i >= end) return MALFORMED;
+            byte b = buf.get(i++);
+            if (b == '}') break;
+            if (b != ',') return MALFORMED;
+            i = skipWhitespace(buf, i, end);
+        }
+
+        if (skipWhitespace(buf, i, end) != end) return MALFORMED;
+        return seen == ALL_FIELDS ? ROW : MALFORMED;
+    }
+
+    private boolean assign(int field, ByteBuffer buf, int start, int end, boolean quoted, SearchRow row) {
+        switch (field) {
+            case 0: case 1: case 3: case 4: case 5:
+                if (!quoted) {
+                    return FieldDecoder.startsWith(buf, start, end, NULL) && end - start == NULL.length;
+                }
+                if (field == 0) row.departureDay = decoder.epochDay(buf, start, end);
+                else if (field == 3) row.returnDay = decoder.epochDay(buf, start, end);
+                else if (field == 1) row.departureAirport = decoder.airport(buf, start, end);
+                else if (field == 4) row.destinationAirport = decoder.airport(buf, start, end);
+                else row.seatingClass = decoder.seatingClass(buf, start, end);
+                return true;
+            case 2: {
+                int v = quoted ? FieldDecoder.NOT_A_BOOLEAN : FieldDecoder.bool(buf, start, end);
+                row.emergencyRowSeating = v == 1;
+                return v != FieldDecoder.NOT_A_BOOLEAN;
+            }
+            default: {
+                long v = quoted ? FieldDecoder.NOT_A_NUMBER : FieldDecoder.integer(buf, start, end);
+                if (v == FieldDecoder.NOT_A_NUMBER) return false;
+                if (field == 6) row.adultPassengerCount = (int) v;
+                else if (field == 7) row.childPassengerCount = (int) v;
+                else row.infantPassengerCount = (int) v;
+                return true;
+            }
+        }
+    }
+
+    private static int fieldIndex(ByteBuffer buf, int start, int end) {
+        int len = end - start;
+        for (int f = 0; f < KEYS.length; f++) {
+            byte[] key = KEYS[f];
+            if (key.length == len && FieldDecoder.startsWith(buf, start, end, key)) return f;
+        }
+        return -1;
+    }
+
+    // Index of the closing quote, or -1 if missing or the string has escapes
+    private static int closingQuote(ByteBuffer buf, int i, int end) {
+        for (; i < end; i++) {
+            byte b = buf.get(i);
+            if (b == '"') return i;
+            if (b == '\\') return -1;
+        }
+        return -1;
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ' ' || b == '\t' || b == '{' || b == '[';
+    }
+
+    private static int skipWhitespace(ByteBuffer buf, int i, int end) {
+        while (i < end) {
+            byte b = buf.get(i);
+            if (b != ' ' && b != '\t') break;
+            i++;
+        }
+        return i;
+    }
+}
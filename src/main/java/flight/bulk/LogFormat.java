@@ -0,0 +1,18 @@
+// src/main/java/flight/bulk/LogFormat.java
+package flight.bulk;
+
+/** Supported search-log layouts. */
+public enum LogFormat {
+    CSV,
+    JSONL;
+
+    RowParser newParser() {
+        return this == CSV ? new CsvRowParser() : new JsonlRowParser();
+    }
+
+    /** Format from a file name: ".jsonl"/".ndjson" is JSONL, anything else CSV. */
+    public static LogFormat forFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        return lower.endsWith(".jsonl") || lower.endsWith(".ndjson") ? JSONL : CSV;
+    }
+}
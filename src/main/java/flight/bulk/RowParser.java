@@ -0,0 +1,17 @@
+// src/main/java/flight/bulk/RowParser.java
+package flight.bulk;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes one line of a search log (bytes [start, end), no line terminator)
+ * into a SearchRow without allocating.
+ */
+interface RowParser {
+
+    int ROW       = 0; // row decoded
+    int SKIP      = 1; // header or blank line
+    int MALFORMED = 2; // not a row in this format
+
+    int parse(ByteBuffer buf, int start, int end, SearchRow row);
+}
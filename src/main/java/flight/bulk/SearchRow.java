@@ -0,0 +1,42 @@
+// src/main/java/flight/bulk/SearchRow.java
+package flight.bulk;
+
+import flight.DmyDateParser;
+import flight.FlightRules;
+import flight.ValidationOutcome;
+
+/**
+ * One decoded log row, reused for every line. Fields hold the same decoded
+ * values FlightRules.check works on; a missing or JSON-null string decodes the
+ * same way a null argument to runFlightSearch would.
+ */
+final class SearchRow {
+
+    int     seatingClass;
+    int     departureAirport;
+    int     destinationAirport;
+    long    departureDay;
+    long    returnDay;
+    boolean emergencyRowSeating;
+    int     adultPassengerCount;
+    int     childPassengerCount;
+    int     infantPassengerCount;
+
+    void clear() {
+        seatingClass         = FlightRules.UNKNOWN;
+        departureAirport     = FlightRules.UNKNOWN;
+        destinationAirport   = FlightRules.UNKNOWN;
+        departureDay         = DmyDateParser.INVALID;
+        returnDay            = DmyDateParser.INVALID;
+        emergencyRowSeating  = false;
+        adultPassengerCount  = 0;
+        childPassengerCount  = 0;
+        infantPassengerCount = 0;
+    }
+
+    ValidationOutcome check(long today) {
+        return FlightRules.check(seatingClass, departureAirport, destinationAirport,
+                departureDay, returnDay, today, emergencyRowSeating,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+    }
+}
@@ -0,0 +1,63 @@
+// src/main/java/flight/fare/FareEngine.java
+package flight.fare;
+
+import flight.SearchRequest;
+import flight.ValidatedSearch;
+
+import java.util.function.Consumer;
+
+/**
+ * Prices validated searches from the current FareTable snapshot.
+ *
+ * Readers take the snapshot from a volatile field and price both legs of a
+ * search from that one table, so they never block and never see half of a
+ * bulk update. Updates are copy-on-write: the changes are applied to a copy
+ * of the current table and the finished table is swapped in. Writers are
+ * serialized so no update is lost.
+ */
+public final class FareEngine {
+
+    private volatile FareTable table;
+
+    public FareEngine(FareTable initial) {
+        this.table = initial;
+    }
+
+    /** The table prices are currently read from. */
+    public FareTable snapshot() {
+        return table;
+    }
+
+    /**
+     * Round-trip price in cents for the whole party of an accepted search,
+     * or FareTable.NO_FARE if either leg has no fare.
+     */
+    public long price(ValidatedSearch search) {
+        SearchRequest r = search.request();
+        return table.roundTripFare(search.departureAirport(), search.destinationAirport(), search.seatingClass(),
+                search.departureEpochDay(), search.returnEpochDay(),
+                r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount());
+    }
+
+    /** Same as {@link #price(ValidatedSearch)} for a decoded search. */
+    public long price(int departureAirport, int destinationAirport, int seatingClass,
+                      long departureDay, long returnDay,
+                      int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        return table.roundTripFare(departureAirport, destinationAirport, seatingClass, departureDay, returnDay,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+    }
+
+    /** Applies a bulk update to a copy of the current table, publishes it and returns it. */
+    public synchronized FareTable update(Consumer<FareTable.Builder> changes) {
+        FareTable.Builder b = table.toBuilder();
+        changes.accept(b);
+        FareTable next = b.build();
+        table = next;
+        return next;
+    }
+
+    /** Publishes a table built elsewhere (e.g. a full reload), replacing the current one. */
+    public synchronized void replace(FareTable next) {
+        table = next;
+    }
+}
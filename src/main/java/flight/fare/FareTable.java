@@ -0,0 +1,220 @@
+// src/main/java/flight/fare/FareTable.java
+package flight.fare;
+
+import flight.Airport;
+import flight.SeatingClass;
+
+import java.util.Arrays;
+
+/**
+ * One immutable snapshot of one-way adult fares, in cents, for every
+ * (origin, destination, seating class, departure day) of a day horizon,
+ * plus the child and infant multipliers in permille of the adult fare.
+ *
+ * Fares live in one int[] indexed [origin][destination][class][day - firstDay],
+ * so a price is a handful of multiplications and one array read. Cells
+ * without a fare hold {@link #NO_FARE}. Changes go through a {@link Builder}
+ * working on a copy, which build() hands over without copying it again; see
+ * FareEngine for swapping snapshots.
+ */
+public final class FareTable {
+
+    /** Price of a cell (or a whole search) that has no fare. */
+    public static final int NO_FARE = -1;
+
+    public static final int DEFAULT_CHILD_PERMILLE  = 750;
+    public static final int DEFAULT_INFANT_PERMILLE = 100;
+
+    private static final int N = Airport.COUNT;
+    private static final int C = SeatingClass.COUNT;
+
+    private final long firstDay;
+    private final int days;
+    private final int childPermille;
+    private final int infantPermille;
+    private final long version;
+    private final int[] cents;
+
+    private FareTable(Builder b) {
+        this.firstDay       = b.firstDay;
+        this.days           = b.days;
+        this.childPermille  = b.childPermille;
+        this.infantPermille = b.infantPermille;
+        this.version        = b.version;
+        this.cents          = b.cents;
+    }
+
+    public long firstDay()       { return firstDay; }
+    public int  days()           { return days; }
+    public int  childPermille()  { return childPermille; }
+    public int  infantPermille() { return infantPermille; }
+
+    /** Number of builds this snapshot descends from (0 for a fresh table). */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * One-way adult fare in cents, or NO_FARE when the route/class has no fare
+     * that day or the day is outside the horizon. Airports and class are
+     * ordinals; anything outside them (e.g. FlightRules.UNKNOWN) has no fare
+     * rather than landing on a neighbouring cell of the flat array.
+     */
+    public int fare(int origin, int destination, int seatingClass, long epochDay) {
+        long offset = epochDay - firstDay;
+        if (offset < 0 || offset >= days) {
+            return NO_FARE;
+        }
+        // Unsigned compares also reject negative ordinals
+        if (Integer.compareUnsigned(origin, N) >= 0 || Integer.compareUnsigned(destination, N) >= 0
+                || Integer.compareUnsigned(seatingClass, C) >= 0) {
+            return NO_FARE;
+        }
+        return cents[index(origin, destination, seatingClass, days) + (int) offset];
+    }
+
+    /** One-way price for the whole party in cents, or NO_FARE. */
+    public long partyFare(int origin, int destination, int seatingClass, long epochDay,
+                          int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        int adult = fare(origin, destination, seatingClass, epochDay);
+        if (adult == NO_FARE) {
+            return NO_FARE;
+        }
+        return (long) adult * adultPassengerCount
+                + (long) adult * childPermille / 1000 * childPassengerCount
+                + (long) adult * infantPermille / 1000 * infantPassengerCount;
+    }
+
+    /** Outbound on the departure day plus the way back on the return day, or NO_FARE if either is missing. */
+    public long roundTripFare(int origin, int destination, int seatingClass, long departureDay, long returnDay,
+                              int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        long out = partyFare(origin, destination, seatingClass, departureDay,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+        long back = partyFare(destination, origin, seatingClass, returnDay,
+                adultPassengerCount, childPassengerCount, infantPassengerCount);
+        return out == NO_FARE || back == NO_FARE ? NO_FARE : out + back;
+    }
+
+    /** Empty table (every cell NO_FARE) for days firstDay .. firstDay+days-1. */
+    public static Builder builder(long firstDay, int days) {
+        return new Builder(firstDay, days);
+    }
+
+    /** Builder starting from a copy of this snapshot. */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    private static int index(int origin, int destination, int seatingClass, int days) {
+        return ((origin * N + destination) * C + seatingClass) * days;
+    }
+
+    public static final class Builder {
+        private long firstDay;
+        private final int days;
+        private int childPermille  = DEFAULT_CHILD_PERMILLE;
+        private int infantPermille = DEFAULT_INFANT_PERMILLE;
+        private long version;
+        private int[] cents;
+        private boolean shared; // cents was handed to a built table; copy before the next change
+
+        private Builder(long firstDay, int days) {
+            if (days <= 0 || (long) N * N * C * days > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Bad horizon length: " + days);
+            }
+            this.firstDay = firstDay;
+            this.days     = days;
+            this.cents    = new int[N * N * C * days];
+            Arrays.fill(cents, NO_FARE);
+        }
+
+        private Builder(FareTable from) {
+            this.firstDay       = from.firstDay;
+            this.days           = from.days;
+            this.childPermille  = from.childPermille;
+            this.infantPermille = from.infantPermille;
+            this.version        = from.version + 1;
+            this.cents          = from.cents.clone();
+        }
+
+        /** Sets (or with NO_FARE clears) the fare of one day; days outside the horizon are ignored. */
+        public Builder set(int origin, int destination, int seatingClass, long epochDay, int fareCents) {
+            return set(origin, destination, seatingClass, epochDay, epochDay, fareCents);
+        }
+
+        /** Sets the fare of every day from {@code fromDay} through {@code toDay} that is in the horizon. */
+        public Builder set(int origin, int destination, int seatingClass, long fromDay, long toDay, int fareCents) {
+            checkCell(origin, destination, seatingClass);
+            if (fareCents < 0 && fareCents != NO_FARE) {
+                throw new IllegalArgumentException("Fare must not be negative: " + fareCents);
+            }
+            long from = Math.max(fromDay - firstDay, 0);
+            long to   = Math.min(toDay - firstDay, days - 1L);
+            if (from <= to) {
+                unshare();
+                int base = index(origin, destination, seatingClass, days);
+                Arrays.fill(cents, base + (int) from, base + (int) to + 1, fareCents);
+            }
+            return this;
+        }
+
+        public Builder childPermille(int permille) {
+            this.childPermille = checkPermille(permille);
+            return this;
+        }
+
+        public Builder infantPermille(int permille) {
+            this.infantPermille = checkPermille(permille);
+            return this;
+        }
+
+        /**
+         * Moves the horizon to start at {@code newFirstDay}, same length: fares of
+         * days still inside are kept, days that come into view have no fare.
+         */
+        public Builder shiftTo(long newFirstDay) {
+            long shift = newFirstDay - firstDay;
+            unshare();
+            int[] row = new int[days];
+            for (int base = 0; base < cents.length; base += days) {
+                Arrays.fill(row, NO_FARE);
+                if (Math.abs(shift) < days) {
+                    int s = (int) shift;
+                    if (s >= 0) System.arraycopy(cents, base + s, row, 0, days - s);
+                    else        System.arraycopy(cents, base, row, -s, days + s);
+                }
+                System.arraycopy(row, 0, cents, base, days);
+            }
+            firstDay = newFirstDay;
+            return this;
+        }
+
+        /** The table as built so far; the builder can keep going without affecting it. */
+        public FareTable build() {
+            shared = true;
+            return new FareTable(this);
+        }
+
+        private void unshare() {
+            if (shared) {
+                cents  = cents.clone();
+                shared = false;
+            }
+        }
+
+        private static void checkCell(int origin, int destination, int seatingClass) {
+            if (origin < 0 || origin >= N || destination < 0 || destination >= N || origin == destination
+                    || seatingClass < 0 || seatingClass >= C) {
+                throw new IllegalArgumentException("Bad fare cell " + origin + " -> " + destination
+                        + " class " + seatingClass);
+            }
+        }
+
+        private static int checkPermille(int permille) {
+            if (permille < 0) {
+                throw new IllegalArgumentException("Multiplier must not be negative: " + permille);
+            }
+            return permille;
+        }
+    }
+}
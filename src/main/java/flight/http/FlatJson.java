@@ -0,0 +1,101 @@
+// src/main/java/flight/http/FlatJson.java
+package flight.http;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal parser for a flat JSON object of scalar values, enough for a search
+ * request body. Values come back as their text (strings unescaped, JSON null
+ * as Java null) so they go through the same String validation as query parameters.
+ */
+final class FlatJson {
+
+    private final String s;
+    private int i;
+
+    private FlatJson(String s) {
+        this.s = s;
+    }
+
+    /** Parses {"key": value, ...}; throws IllegalArgumentException if malformed. */
+    static Map<String, String> parseObject(String json) {
+        FlatJson p = new FlatJson(json);
+        Map<String, String> out = new HashMap<>();
+        p.skipWhitespace();
+        p.expect('{');
+        p.skipWhitespace();
+        if (p.peek() == '}') {
+            p.i++;
+        } else {
+            while (true) {
+                p.skipWhitespace();
+                String key = p.string();
+                p.skipWhitespace();
+                p.expect(':');
+                p.skipWhitespace();
+                out.put(key, p.value());
+                p.skipWhitespace();
+                if (p.peek() == ',') { p.i++; continue; }
+                p.expect('}');
+                break;
+            }
+        }
+        p.skipWhitespace();
+        if (p.i != json.length()) throw new IllegalArgumentException("Trailing content after JSON object");
+        return out;
+    }
+
+    private String value() {
+        char c = peek();
+        if (c == '"') return string();
+        if (c == '{' || c == '[') throw new IllegalArgumentException("Nested values are not supported");
+        int start = i;
+        while (i < s.length() && ",} \t\r\n".indexOf(s.charAt(i)) < 0) i++;
+        String token = s.substring(start, i);
+        if (token.isEmpty()) throw new IllegalArgumentException("Missing value at " + start);
+        return "null".equals(token) ? null : token;
+    }
+
+    private String string() {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            if (i >= s.length()) throw new IllegalArgumentException("Unterminated string");
+            char c = s.charAt(i++);
+            if (c == '"') return sb.toString();
+            if (c != '\\') { sb.append(c); continue; }
+            if (i >= s.length()) throw new IllegalArgumentException("Unterminated escape");
+            char e = s.charAt(i++);
+            switch (e) {
+                case '"': case '\\': case '/': sb.append(e); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    if (i + 4 > s.length()) throw new IllegalArgumentException("Bad unicode escape");
+                    sb.append((char) Integer.parseInt(s.substring(i, i + 4), 16));
+                    i += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Bad escape \\" + e);
+            }
+        }
+    }
+
+    private char peek() {
+        if (i >= s.length()) throw new IllegalArgumentException("Unexpected end of JSON");
+        return s.charAt(i);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) throw new IllegalArgumentException("Expected '" + c + "' at " + i);
+        i++;
+    }
+
+    private void skipWhitespace() {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+    }
+}
@@ -0,0 +1,126 @@
+// src/main/java/flight/http/SearchHandler.java
+package flight.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import flight.FlightSearchValidator;
+import flight.SearchRequest;
+import flight.ValidationOutcome;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * /search: validates one request given as query parameters (GET) or as a JSON
+ * object body (POST), keyed by the runFlightSearch parameter names. Replies
+ * {"accepted":true|false,"reason":"<ValidationOutcome>"}. All nine parameters
+ * are required: 400 if one is missing, the flag is not true/false or a count
+ * is not an integer. Values that are present but not allowed (an unknown
+ * airport, a bad date, a JSON null string field) are validation outcomes and
+ * get 200 with the reason, as the same row gets in a JSONL bulk file.
+ */
+final class SearchHandler implements HttpHandler {
+
+    private static final int MAX_BODY = 8 * 1024;
+
+    private final FlightSearchValidator validator;
+
+    SearchHandler(FlightSearchValidator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Map<String, String> params;
+            String method = exchange.getRequestMethod();
+            try {
+                if ("GET".equals(method)) {
+                    params = parseQuery(exchange.getRequestURI().getRawQuery());
+                } else if ("POST".equals(method)) {
+                    params = FlatJson.parseObject(readBody(exchange.getRequestBody()));
+                } else {
+                    exchange.getResponseHeaders().set("Allow", "GET, POST");
+                    reply(exchange, 405, "{\"error\":\"method not allowed\"}");
+                    return;
+                }
+                SearchRequest request = toRequest(params);
+                ValidationOutcome outcome = validator.check(request);
+                reply(exchange, 200, "{\"accepted\":" + outcome.isAccepted() + ",\"reason\":\"" + outcome + "\"}");
+            } catch (IllegalArgumentException ex) {
+                reply(exchange, 400, "{\"error\":\"" + escape(ex.getMessage()) + "\"}");
+            }
+        }
+    }
+
+    static SearchRequest toRequest(Map<String, String> p) {
+        return new SearchRequest(
+                string(p, "departureDate"),
+                string(p, "departureAirportCode"),
+                bool(p, "emergencyRowSeating"),
+                string(p, "returnDate"),
+                string(p, "destinationAirportCode"),
+                string(p, "seatingClass"),
+                integer(p, "adultPassengerCount"),
+                integer(p, "childPassengerCount"),
+                integer(p, "infantPassengerCount"));
+    }
+
+    /** The value, which is null for a JSON null; missing keys are rejected. */
+    private static String string(Map<String, String> p, String name) {
+        if (!p.containsKey(name)) throw new IllegalArgumentException(name + " is required");
+        return p.get(name);
+    }
+
+    private static boolean bool(Map<String, String> p, String name) {
+        String v = string(p, name);
+        if ("true".equals(v)) return true;
+        if ("false".equals(v)) return false;
+        throw new IllegalArgumentException(name + " must be true or false");
+    }
+
+    private static int integer(Map<String, String> p, String name) {
+        String v = string(p, name);
+        try {
+            return Integer.parseInt(v);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> out = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return out;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            out.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        byte[] body = in.readNBytes(MAX_BODY + 1);
+        if (body.length > MAX_BODY) throw new IllegalArgumentException("Request body too large");
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static void reply(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String escape(String s) {
+        return s == null ? "" : s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,71 @@
+// src/main/java/flight/http/SearchServer.java
+package flight.http;
+
+import com.sun.net.httpserver.HttpServer;
+import flight.FlightSearchValidator;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP endpoint for search validation on the JDK's built-in server.
+ *
+ * All requests share one stateless FlightSearchValidator. Each request runs on
+ * its own virtual thread when the runtime has them (Java 21+); on older
+ * runtimes a fixed pool sized to the CPU count is used instead, which is
+ * enough because validation never blocks.
+ */
+public final class SearchServer {
+
+    private static final int BACKLOG = 16 * 1024;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final FlightSearchValidator validator;
+
+    private SearchServer(HttpServer server, ExecutorService executor, FlightSearchValidator validator) {
+        this.server    = server;
+        this.executor  = executor;
+        this.validator = validator;
+    }
+
+    /** Starts serving /search on the given address (port 0 picks a free port). */
+    public static SearchServer start(InetSocketAddress address, FlightSearchValidator validator) throws IOException {
+        HttpServer server = HttpServer.create(address, BACKLOG);
+        ExecutorService executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/search", new SearchHandler(validator));
+        server.start();
+        return new SearchServer(server, executor, validator);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public FlightSearchValidator validator() {
+        return validator;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /** Virtual thread per request if available, else a CPU-sized pool. */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        } catch (Throwable t) {
+            throw new IllegalStateException("Could not create request executor", t);
+        }
+    }
+}
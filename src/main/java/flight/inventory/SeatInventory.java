@@ -0,0 +1,132 @@
+// src/main/java/flight/inventory/SeatInventory.java
+package flight.inventory;
+
+import flight.SeatingClass;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Remaining seats per flight leg and cabin, updated without locks.
+ *
+ * Each (leg, SeatingClass) slot is one long: remaining seats in the high 32
+ * bits and remaining emergency-row seats (a subset of them) in the low 32
+ * bits. Holds and releases are compare-and-set loops on that long, so both
+ * counters always change together and never go negative. The counts last set
+ * by setAvailable are kept, packed the same way, as the slot's capacity: a
+ * release that would go above it is rejected.
+ */
+public final class SeatInventory {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] slots;
+    private final long[] capacities;
+    private final int legs;
+
+    /** Inventory for legs 0..legs-1 (schedule leg indices), all cabins empty. */
+    public SeatInventory(int legs) {
+        this.legs = legs;
+        this.slots = new long[legs * SeatingClass.COUNT];
+        this.capacities = new long[legs * SeatingClass.COUNT];
+    }
+
+    public int legs() {
+        return legs;
+    }
+
+    /** Sets the seats left in a cabin; emergencySeats must not exceed seats. */
+    public void setAvailable(int leg, int seatingClass, int seats, int emergencySeats) {
+        if (seats < 0 || emergencySeats < 0 || emergencySeats > seats) {
+            throw new IllegalArgumentException("Bad seat counts " + seats + "/" + emergencySeats);
+        }
+        int i = slot(leg, seatingClass);
+        SLOTS.setVolatile(capacities, i, pack(seats, emergencySeats));
+        SLOTS.setVolatile(slots, i, pack(seats, emergencySeats));
+    }
+
+    public int remaining(int leg, int seatingClass) {
+        return seats((long) SLOTS.getVolatile(slots, slot(leg, seatingClass)));
+    }
+
+    public int emergencyRemaining(int leg, int seatingClass) {
+        return emergency((long) SLOTS.getVolatile(slots, slot(leg, seatingClass)));
+    }
+
+    /**
+     * True if the cabin currently has room for the party: emergency-row seats
+     * if requested, otherwise regular (non-emergency-row) seats.
+     */
+    public boolean canSeat(int leg, int seatingClass, int passengers, boolean emergencyRow) {
+        long v = (long) SLOTS.getOpaque(slots, slot(leg, seatingClass));
+        return (emergencyRow ? emergency(v) : seats(v) - emergency(v)) >= passengers;
+    }
+
+    /**
+     * Takes seats for a party: emergency-row seats if requested, otherwise
+     * regular seats only. Returns false, changing nothing, if the seats are not there.
+     */
+    public boolean hold(int leg, int seatingClass, int passengers, boolean emergencyRow) {
+        if (passengers <= 0) throw new IllegalArgumentException("passengers must be positive");
+        int i = slot(leg, seatingClass);
+        long v = (long) SLOTS.getVolatile(slots, i);
+        while (true) {
+            int seats = seats(v), emergency = emergency(v);
+            long next;
+            if (emergencyRow) {
+                if (emergency < passengers) return false;
+                next = pack(seats - passengers, emergency - passengers);
+            } else {
+                if (seats - emergency < passengers) return false;
+                next = pack(seats - passengers, emergency);
+            }
+            long witness = (long) SLOTS.compareAndExchange(slots, i, v, next);
+            if (witness == v) return true;
+            v = witness;
+        }
+    }
+
+    /**
+     * Gives back seats from an earlier successful hold with the same arguments.
+     * Throws IllegalStateException, changing nothing, if that would leave more
+     * seats than setAvailable set (a double release, or seats never held).
+     */
+    public void release(int leg, int seatingClass, int passengers, boolean emergencyRow) {
+        if (passengers <= 0) throw new IllegalArgumentException("passengers must be positive");
+        int i = slot(leg, seatingClass);
+        long capacity = (long) SLOTS.getVolatile(capacities, i);
+        long v = (long) SLOTS.getVolatile(slots, i);
+        while (true) {
+            long seats = (long) seats(v) + passengers;
+            long emergency = emergency(v) + (emergencyRow ? (long) passengers : 0);
+            if (seats > seats(capacity) || emergency > emergency(capacity)) {
+                throw new IllegalStateException("Release of " + passengers + " exceeds capacity "
+                        + seats(capacity) + "/" + emergency(capacity));
+            }
+            long next = pack((int) seats, (int) emergency);
+            long witness = (long) SLOTS.compareAndExchange(slots, i, v, next);
+            if (witness == v) return;
+            v = witness;
+        }
+    }
+
+    private int slot(int leg, int seatingClass) {
+        if (leg < 0 || leg >= legs) throw new IndexOutOfBoundsException("leg " + leg);
+        if (seatingClass < 0 || seatingClass >= SeatingClass.COUNT) {
+            throw new IndexOutOfBoundsException("seating class " + seatingClass);
+        }
+        return leg * SeatingClass.COUNT + seatingClass;
+    }
+
+    private static long pack(int seats, int emergency) {
+        return ((long) seats << 32) | (emergency & 0xFFFFFFFFL);
+    }
+
+    private static int seats(long v) {
+        return (int) (v >>> 32);
+    }
+
+    private static int emergency(long v) {
+        return (int) v;
+    }
+}
@@ -0,0 +1,42 @@
+// src/main/java/flight/jfr/DateParseFailedEvent.java
+package flight.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR instant event for a date string the strict dd/MM/yyyy parser rejected.
+ * Off by default because bad traffic can produce one per request; enable it
+ * in the recording settings when hunting malformed input.
+ */
+@Name(DateParseFailedEvent.NAME)
+@Label("Date Parse Failed")
+@Category("Flight Search")
+@Description("A search date that is not a valid STRICT dd/MM/yyyy date")
+@Enabled(false)
+@StackTrace(false)
+public final class DateParseFailedEvent extends Event {
+
+    public static final String NAME = "flight.DateParseFailed";
+
+    @Label("Field")
+    String field;
+
+    @Label("Input")
+    String input;
+
+    /** Emits the event if enabled; a no-op otherwise. */
+    public static void report(String field, CharSequence input) {
+        DateParseFailedEvent event = new DateParseFailedEvent();
+        if (event.shouldCommit()) {
+            event.field = field;
+            event.input = input == null ? null : input.toString();
+            event.commit();
+        }
+    }
+}
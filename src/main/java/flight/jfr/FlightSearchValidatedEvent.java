@@ -0,0 +1,55 @@
+// src/main/java/flight/jfr/FlightSearchValidatedEvent.java
+package flight.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event spanning one validator check. Only checks slower than the
+ * threshold (100 us unless the recording's settings say otherwise) are
+ * written, so a recording shows the slow validations next to the GC pauses
+ * and safepoints that explain them. When the event is disabled or no
+ * recording runs, begin()/shouldCommit() are no-ops and the JIT removes the
+ * event object.
+ */
+@Name(FlightSearchValidatedEvent.NAME)
+@Label("Flight Search Validated")
+@Category("Flight Search")
+@Description("One search request run through the validation rules")
+@Threshold("100 us")
+@StackTrace(false)
+public final class FlightSearchValidatedEvent extends Event {
+
+    public static final String NAME = "flight.FlightSearchValidated";
+
+    @Label("Origin")
+    String origin;
+
+    @Label("Destination")
+    String destination;
+
+    @Label("Seating Class")
+    String seatingClass;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    @Label("Reason")
+    @Description("ValidationOutcome: ACCEPTED or the first condition that failed")
+    String reason;
+
+    /** Sets the fields and commits; call after end() or in place of it, once shouldCommit() is true. */
+    public void commit(String origin, String destination, String seatingClass, boolean accepted, String reason) {
+        this.origin       = origin;
+        this.destination  = destination;
+        this.seatingClass = seatingClass;
+        this.accepted     = accepted;
+        this.reason       = reason;
+        commit();
+    }
+}
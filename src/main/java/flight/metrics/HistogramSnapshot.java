@@ -0,0 +1,56 @@
+// src/main/java/flight/metrics/HistogramSnapshot.java
+package flight.metrics;
+
+/**
+ * Point-in-time copy of a LatencyHistogram. Values are reported as the
+ * highest value of their bucket, so they overstate by at most ~6%.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long total;
+
+    HistogramSnapshot(long[] counts) {
+        this.counts = counts;
+        long t = 0;
+        for (long c : counts) t += c;
+        this.total = t;
+    }
+
+    public long count() {
+        return total;
+    }
+
+    /** Value at or below which {@code percentile} percent of recordings fall; 0 when empty. */
+    public long valueAtPercentile(double percentile) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return LatencyHistogram.highestValue(i);
+        }
+        return LatencyHistogram.highestValue(counts.length - 1);
+    }
+
+    public long max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) return LatencyHistogram.highestValue(i);
+        }
+        return 0;
+    }
+
+    /** Mean of the bucket midpoints. */
+    public double mean() {
+        if (total == 0) return 0;
+        double sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                long lo = LatencyHistogram.lowestValue(i);
+                long hi = LatencyHistogram.highestValue(i);
+                sum += counts[i] * ((lo + hi) / 2.0);
+            }
+        }
+        return sum / total;
+    }
+}
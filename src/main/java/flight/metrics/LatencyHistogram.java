@@ -0,0 +1,69 @@
+// src/main/java/flight/metrics/LatencyHistogram.java
+package flight.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of nanosecond values, HDR style.
+ *
+ * Values below 2^SUB_BITS get one bucket each; above that every power of two
+ * is split into 2^SUB_BITS equal buckets, so any recorded value is known to
+ * within 1/16 (about 6%). Values of 2^(MAX_EXPONENT+1) ns (~69 s) and more
+ * are clamped into the last bucket. Recording is one atomic increment; readers copy the counts
+ * while writers carry on.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BITS     = 4;
+    static final int SUB_BUCKETS  = 1 << SUB_BITS;
+    static final int MAX_EXPONENT = 35;
+    static final int BUCKETS      = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /** Records one value; negative values count as 0. */
+    public void record(long nanos) {
+        counts.getAndIncrement(bucket(nanos));
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new HistogramSnapshot(copy);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(0L, value);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** Smallest value that lands in {@code bucket}. */
+    static long lowestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+    }
+
+    /** Largest value that lands in {@code bucket} (clamped values aside). */
+    static long highestValue(int bucket) {
+        return lowestValue(bucket + 1) - 1;
+    }
+}
@@ -0,0 +1,66 @@
+// src/main/java/flight/metrics/MetricsSnapshot.java
+package flight.metrics;
+
+import flight.Airport;
+import flight.ValidationOutcome;
+
+/**
+ * Values of a ValidationMetrics at one point, for a scrape endpoint or a log
+ * reporter. Pair counts only cover requests where both airports were known.
+ */
+public final class MetricsSnapshot {
+
+    private final long[] outcomeCounts;
+    private final HistogramSnapshot[] latency;
+    private final long[] pairCounts;
+
+    MetricsSnapshot(long[] outcomeCounts, HistogramSnapshot[] latency, long[] pairCounts) {
+        this.outcomeCounts = outcomeCounts;
+        this.latency       = latency;
+        this.pairCounts    = pairCounts;
+    }
+
+    public long count(ValidationOutcome outcome) {
+        return outcomeCounts[outcome.ordinal()];
+    }
+
+    public long total() {
+        long t = 0;
+        for (long c : outcomeCounts) t += c;
+        return t;
+    }
+
+    public long rejected() {
+        return total() - count(ValidationOutcome.ACCEPTED);
+    }
+
+    /** Sampled latency of checks that ended with {@code outcome}. */
+    public HistogramSnapshot latency(ValidationOutcome outcome) {
+        return latency[outcome.ordinal()];
+    }
+
+    public long pairCount(Airport from, Airport to) {
+        return pairCounts[from.ordinal() * Airport.COUNT + to.ordinal()];
+    }
+
+    /** One line per non-zero outcome and airport pair, e.g. for a periodic log reporter. */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        for (ValidationOutcome o : ValidationOutcome.values()) {
+            long n = count(o);
+            if (n == 0) continue;
+            HistogramSnapshot h = latency(o);
+            sb.append("outcome ").append(o).append(" count=").append(n)
+              .append(" p50=").append(h.valueAtPercentile(50)).append("ns")
+              .append(" p99=").append(h.valueAtPercentile(99)).append("ns")
+              .append(" max=").append(h.max()).append("ns\n");
+        }
+        for (Airport from : Airport.values()) {
+            for (Airport to : Airport.values()) {
+                long n = pairCount(from, to);
+                if (n != 0) sb.append("pair ").append(from).append('-').append(to).append(" count=").append(n).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}
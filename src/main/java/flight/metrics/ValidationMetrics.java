@@ -0,0 +1,117 @@
+// src/main/java/flight/metrics/ValidationMetrics.java
+package flight.metrics;
+
+import flight.Airport;
+import flight.ValidationOutcome;
+import flight.ValidationProbe;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in instrumentation for a FlightSearchValidator: exact counts per
+ * outcome and per airport pair, and a latency histogram per outcome.
+ *
+ * Pass it as the validator's ValidationProbe. Counts are kept in one
+ * LongAdder per (outcome, origin, destination), so a call costs a single
+ * increment; per-outcome and per-pair totals are summed when a
+ * {@link #snapshot()} is taken, without pausing writers. Latency is timed for
+ * one call in {@code sampleEvery}: a System.nanoTime read costs about as much
+ * as the whole validation, so timing every call would double it. Counts are
+ * exact. {@link #setEnabled(boolean) setEnabled(false)} turns all of it off:
+ * start() then returns at once and finish() records nothing.
+ */
+public final class ValidationMetrics implements ValidationProbe {
+
+    /** Default latency sampling: one call in 32. */
+    public static final int DEFAULT_SAMPLE_EVERY = 32;
+
+    // Airport slots per side: the ordinals plus one for unknown
+    static final int SLOTS = Airport.COUNT + 1;
+
+    private static final long OFF     = Long.MIN_VALUE;
+    private static final long UNTIMED = Long.MIN_VALUE + 1;
+
+    private final int sampleMask;
+    private volatile boolean enabled = true;
+
+    private final LongAdder[]        counts  = new LongAdder[ValidationOutcome.COUNT * SLOTS * SLOTS];
+    private final LatencyHistogram[] latency = new LatencyHistogram[ValidationOutcome.COUNT];
+
+    public ValidationMetrics() {
+        this(DEFAULT_SAMPLE_EVERY);
+    }
+
+    /** Times one call in {@code sampleEvery} (a power of two; 1 times every call). */
+    public ValidationMetrics(int sampleEvery) {
+        if (sampleEvery < 1 || Integer.bitCount(sampleEvery) != 1) {
+            throw new IllegalArgumentException("sampleEvery must be a power of two: " + sampleEvery);
+        }
+        this.sampleMask = sampleEvery - 1;
+        for (int i = 0; i < latency.length; i++) {
+            latency[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long start() {
+        if (!enabled) return OFF;
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) return UNTIMED;
+        return System.nanoTime();
+    }
+
+    @Override
+    public void finish(long token, ValidationOutcome outcome, int departureAirport, int destinationAirport) {
+        if (token == OFF) return;
+        counts[index(outcome.ordinal(), slot(departureAirport), slot(destinationAirport))].increment();
+        if (token != UNTIMED) {
+            latency[outcome.ordinal()].record(System.nanoTime() - token);
+        }
+    }
+
+    /** Copies the current values; writers are not paused, so counters may move on while it runs. */
+    public MetricsSnapshot snapshot() {
+        long[] outcomeCounts = new long[ValidationOutcome.COUNT];
+        long[] pairCounts    = new long[Airport.COUNT * Airport.COUNT];
+        for (int o = 0; o < ValidationOutcome.COUNT; o++) {
+            for (int from = 0; from < SLOTS; from++) {
+                for (int to = 0; to < SLOTS; to++) {
+                    long n = counts[index(o, from, to)].sum();
+                    outcomeCounts[o] += n;
+                    if (from < Airport.COUNT && to < Airport.COUNT) {
+                        pairCounts[from * Airport.COUNT + to] += n;
+                    }
+                }
+            }
+        }
+        HistogramSnapshot[] hist = new HistogramSnapshot[latency.length];
+        for (int i = 0; i < hist.length; i++) {
+            hist[i] = latency[i].snapshot();
+        }
+        return new MetricsSnapshot(outcomeCounts, hist, pairCounts);
+    }
+
+    public void reset() {
+        for (LongAdder c : counts) c.reset();
+        for (LatencyHistogram h : latency) h.reset();
+    }
+
+    private static int slot(int airport) {
+        return airport < 0 ? Airport.COUNT : airport;
+    }
+
+    private static int index(int outcome, int fromSlot, int toSlot) {
+        return (outcome * SLOTS + fromSlot) * SLOTS + toSlot;
+    }
+}
@@ -0,0 +1,39 @@
+// src/main/java/flight/route/Itinerary.java
+package flight.route;
+
+import java.util.Arrays;
+
+/**
+ * One search result: 1 to 3 legs (direct, 1 stop or 2 stops) with the
+ * per-passenger fare for the searched class.
+ */
+public final class Itinerary {
+
+    private final int[] legs;
+    private final int departureMinute;
+    private final int arrivalMinute;
+    private final long fareCents;
+
+    Itinerary(int[] legs, int departureMinute, int arrivalMinute, long fareCents) {
+        this.legs            = legs;
+        this.departureMinute = departureMinute;
+        this.arrivalMinute   = arrivalMinute;
+        this.fareCents       = fareCents;
+    }
+
+    /** Schedule leg indices in travel order. */
+    public int[] legs()              { return legs.clone(); }
+    public int legCount()            { return legs.length; }
+    public int leg(int i)            { return legs[i]; }
+    public int stops()               { return legs.length - 1; }
+    public int departureMinute()     { return departureMinute; }
+    public int arrivalMinute()       { return arrivalMinute; }
+    public int durationMinutes()     { return arrivalMinute - departureMinute; }
+    public long fareCents()          { return fareCents; }
+
+    @Override
+    public String toString() {
+        return "Itinerary{legs=" + Arrays.toString(legs) + ", duration=" + durationMinutes()
+                + "min, fare=" + fareCents + '}';
+    }
+}
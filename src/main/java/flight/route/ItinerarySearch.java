@@ -0,0 +1,272 @@
+// src/main/java/flight/route/ItinerarySearch.java
+package flight.route;
+
+import flight.Airport;
+import flight.FlightSearch;
+import flight.SearchRequest;
+import flight.SeatingClass;
+import flight.ValidatedSearch;
+import flight.inventory.SeatInventory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds direct, 1-stop and 2-stop itineraries for a validated search.
+ *
+ * The first leg departs from the origin on the searched day; each connection
+ * must leave between minConnectionMinutes and maxConnectionMinutes after the
+ * previous arrival, and no airport is visited twice. Candidates go into a
+ * bounded top-K heap, and a partial itinerary is dropped as soon as it can no
+ * longer beat the worst of the K kept (fares and travel time only grow).
+ * With a SeatInventory, legs without room for the party are skipped.
+ * Stateless apart from configuration; safe to share between threads.
+ */
+public final class ItinerarySearch {
+
+    private static final int N = Airport.COUNT;
+
+    // Fare multipliers per SeatingClass ordinal, in permille of the economy fare
+    private static final int[] CLASS_FARE_PERMILLE = {1000, 1600, 3500, 6000};
+
+    private final RouteGraph graph;
+    private final Schedule schedule;
+    private final int minConnectionMinutes;
+    private final int maxConnectionMinutes;
+
+    public ItinerarySearch(RouteGraph graph) {
+        this(graph, 60, 12 * 60);
+    }
+
+    public ItinerarySearch(RouteGraph graph, int minConnectionMinutes, int maxConnectionMinutes) {
+        if (minConnectionMinutes < 0 || maxConnectionMinutes < minConnectionMinutes) {
+            throw new IllegalArgumentException("Bad connection window");
+        }
+        this.graph = graph;
+        this.schedule = graph.schedule();
+        this.minConnectionMinutes = minConnectionMinutes;
+        this.maxConnectionMinutes = maxConnectionMinutes;
+    }
+
+    /** Outbound itineraries for the search last accepted by runFlightSearch. */
+    public List<Itinerary> search(FlightSearch flightSearch, Ranking ranking, int limit) {
+        ValidatedSearch validated = flightSearch.getValidatedSearch();
+        if (validated == null) {
+            throw new IllegalStateException("No accepted search: runFlightSearch has not succeeded");
+        }
+        return search(validated, ranking, limit);
+    }
+
+    /**
+     * Same as {@link #search(FlightSearch, Ranking, int)}, keeping only
+     * itineraries where every leg can seat the whole validated party.
+     */
+    public List<Itinerary> search(FlightSearch flightSearch, Ranking ranking, int limit, SeatInventory inventory) {
+        ValidatedSearch validated = flightSearch.getValidatedSearch();
+        if (validated == null) {
+            throw new IllegalStateException("No accepted search: runFlightSearch has not succeeded");
+        }
+        return search(validated, ranking, limit, inventory);
+    }
+
+    public List<Itinerary> search(ValidatedSearch search, Ranking ranking, int limit) {
+        return search(search.departureAirport(), search.destinationAirport(), search.departureEpochDay(),
+                search.seatingClass(), ranking, limit);
+    }
+
+    /**
+     * Itineraries whose every leg has room in the searched class for
+     * adults + children + infants (in emergency-row seats if the search asked
+     * for them), according to the inventory.
+     */
+    public List<Itinerary> search(ValidatedSearch search, Ranking ranking, int limit, SeatInventory inventory) {
+        SearchRequest r = search.request();
+        int party = r.adultPassengerCount() + r.childPassengerCount() + r.infantPassengerCount();
+        return search(search.departureAirport(), search.destinationAirport(), search.departureEpochDay(),
+                search.seatingClass(), ranking, limit, inventory, party, r.emergencyRowSeating());
+    }
+
+    /**
+     * Best {@code limit} itineraries from origin to destination (Airport
+     * ordinals) departing on the given epoch-day, best first. Ordinals
+     * outside Airport or SeatingClass (FlightRules.UNKNOWN included) are
+     * rejected with IllegalArgumentException.
+     */
+    public List<Itinerary> search(int origin, int destination, long epochDay, int seatingClass,
+                                  Ranking ranking, int limit) {
+        if (origin < 0 || origin >= N || destination < 0 || destination >= N) {
+            throw new IllegalArgumentException("Bad airports " + origin + " -> " + destination);
+        }
+        if (seatingClass < 0 || seatingClass >= SeatingClass.COUNT) {
+            throw new IllegalArgumentException("Bad seating class " + seatingClass);
+        }
+        return search(origin, destination, epochDay, seatingClass, ranking, limit, null, 0, false);
+    }
+
+    private List<Itinerary> search(int origin, int destination, long epochDay, int seatingClass,
+                                   Ranking ranking, int limit,
+                                   SeatInventory inventory, int party, boolean emergencyRow) {
+        if (limit <= 0) return List.of();
+        final boolean cheapest = ranking == Ranking.CHEAPEST;
+        final TopK top = new TopK(limit);
+        final int dayStart = (int) (epochDay * Schedule.MINUTES_PER_DAY);
+        final int dayEnd = dayStart + Schedule.MINUTES_PER_DAY;
+
+        final int[] dep = schedule.departureMinute, arr = schedule.arrivalMinute, fare = schedule.fareCents;
+        final int[] dst = schedule.destination;
+
+        int from = RouteGraph.lowerBound(graph.byOriginDeparture, graph.originStart[origin], graph.originStart[origin + 1], dayStart);
+        int to   = RouteGraph.lowerBound(graph.byOriginDeparture, from, graph.originStart[origin + 1], dayEnd);
+        for (int i = from; i < to; i++) {
+            final int l1 = graph.byOrigin[i];
+            final int x = dst[l1];
+            final int start = dep[l1];
+            if (inventory != null && !inventory.canSeat(l1, seatingClass, party, emergencyRow)) continue;
+            if (top.prunes(score(cheapest, fare[l1], arr[l1] - start))) continue;
+
+            if (x == destination) {
+                top.offer(score(cheapest, fare[l1], arr[l1] - start), l1, -1, -1);
+                continue;
+            }
+
+            // 1 stop: x -> destination
+            int lo = connectionStart(x, destination, arr[l1]);
+            int hi = connectionEnd(x, destination, arr[l1], lo);
+            for (int j = lo; j < hi; j++) {
+                int l2 = graph.byPair[j];
+                if (inventory != null && !inventory.canSeat(l2, seatingClass, party, emergencyRow)) continue;
+                top.offer(score(cheapest, fare[l1] + fare[l2], arr[l2] - start), l1, l2, -1);
+            }
+
+            // 2 stops: x -> y -> destination
+            for (int y = 0; y < N; y++) {
+                if (y == origin || y == x || y == destination) continue;
+                int lo2 = connectionStart(x, y, arr[l1]);
+                int hi2 = connectionEnd(x, y, arr[l1], lo2);
+                for (int j = lo2; j < hi2; j++) {
+                    int l2 = graph.byPair[j];
+                    long fare2 = fare[l1] + fare[l2];
+                    if (top.prunes(score(cheapest, fare2, arr[l2] - start))) continue;
+                    if (inventory != null && !inventory.canSeat(l2, seatingClass, party, emergencyRow)) continue;
+                    int lo3 = connectionStart(y, destination, arr[l2]);
+                    int hi3 = connectionEnd(y, destination, arr[l2], lo3);
+                    for (int k = lo3; k < hi3; k++) {
+                        int l3 = graph.byPair[k];
+                        if (inventory != null && !inventory.canSeat(l3, seatingClass, party, emergencyRow)) continue;
+                        top.offer(score(cheapest, fare2 + fare[l3], arr[l3] - start), l1, l2, l3);
+                    }
+                }
+            }
+        }
+        return top.drain(schedule, CLASS_FARE_PERMILLE[seatingClass]);
+    }
+
+    private int connectionStart(int from, int to, int arrivalMinute) {
+        int p = from * N + to;
+        return RouteGraph.lowerBound(graph.byPairDeparture, graph.pairStart[p], graph.pairStart[p + 1],
+                arrivalMinute + minConnectionMinutes);
+    }
+
+    private int connectionEnd(int from, int to, int arrivalMinute, int lo) {
+        int p = from * N + to;
+        return RouteGraph.lowerBound(graph.byPairDeparture, lo, graph.pairStart[p + 1],
+                arrivalMinute + maxConnectionMinutes + 1);
+    }
+
+    // Primary criterion in the high bits, secondary in the low bits; lower is better
+    private static long score(boolean cheapest, long fareCents, int durationMinutes) {
+        return cheapest
+                ? (fareCents << 24) | Math.min(durationMinutes, 0xFFFFFF)
+                : ((long) durationMinutes << 32) | Math.min(fareCents, 0xFFFFFFFFL);
+    }
+
+    /** Bounded max-heap of the best K candidates by score. */
+    private static final class TopK {
+        private final int capacity;
+        private final long[] scores;
+        private final int[] legs; // 3 slots per candidate, -1 when unused
+        private int size;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            this.scores = new long[capacity];
+            this.legs = new int[capacity * 3];
+        }
+
+        /** True if nothing scoring at least this can enter the heap. */
+        boolean prunes(long lowerBound) {
+            return size == capacity && lowerBound >= scores[0];
+        }
+
+        void offer(long score, int l1, int l2, int l3) {
+            if (size < capacity) {
+                int i = size++;
+                set(i, score, l1, l2, l3);
+                siftUp(i);
+            } else if (score < scores[0]) {
+                set(0, score, l1, l2, l3);
+                siftDown(0);
+            }
+        }
+
+        List<Itinerary> drain(Schedule schedule, int farePermille) {
+            Itinerary[] out = new Itinerary[size];
+            while (size > 0) {
+                int n = legs[2] >= 0 ? 3 : legs[1] >= 0 ? 2 : 1;
+                int[] path = new int[n];
+                long fare = 0;
+                for (int k = 0; k < n; k++) {
+                    path[k] = legs[k];
+                    fare += schedule.fareCents[path[k]];
+                }
+                out[size - 1] = new Itinerary(path, schedule.departureMinute[path[0]],
+                        schedule.arrivalMinute[path[n - 1]], fare * farePermille / 1000);
+                size--;
+                if (size > 0) {
+                    move(size, 0);
+                    siftDown(0);
+                }
+            }
+            List<Itinerary> result = new ArrayList<>(out.length);
+            for (Itinerary it : out) result.add(it);
+            return result;
+        }
+
+        private void set(int i, long score, int l1, int l2, int l3) {
+            scores[i] = score;
+            legs[i * 3] = l1;
+            legs[i * 3 + 1] = l2;
+            legs[i * 3 + 2] = l3;
+        }
+
+        private void move(int from, int to) {
+            set(to, scores[from], legs[from * 3], legs[from * 3 + 1], legs[from * 3 + 2]);
+        }
+
+        private void swap(int a, int b) {
+            long s = scores[a]; int x = legs[a * 3], y = legs[a * 3 + 1], z = legs[a * 3 + 2];
+            move(b, a);
+            set(b, s, x, y, z);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] >= scores[i]) break;
+                swap(parent, i);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int l = 2 * i + 1, r = l + 1, max = i;
+                if (l < size && scores[l] > scores[max]) max = l;
+                if (r < size && scores[r] > scores[max]) max = r;
+                if (max == i) return;
+                swap(i, max);
+                i = max;
+            }
+        }
+    }
+}
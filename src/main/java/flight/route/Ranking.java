@@ -0,0 +1,10 @@
+// src/main/java/flight/route/Ranking.java
+package flight.route;
+
+/** Order of search results. */
+public enum Ranking {
+    /** Lowest fare first, then shortest total travel time. */
+    CHEAPEST,
+    /** Shortest total travel time first, then lowest fare. */
+    FASTEST
+}
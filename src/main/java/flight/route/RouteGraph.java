@@ -0,0 +1,90 @@
+// src/main/java/flight/route/RouteGraph.java
+package flight.route;
+
+import flight.Airport;
+
+import java.util.Arrays;
+
+/**
+ * Schedule indexed for search, keyed by airport ordinal.
+ *
+ * Legs are grouped by origin and by (origin, destination) pair, each group
+ * sorted by departure minute (compressed sparse rows), with the departure
+ * minutes copied alongside so a time window is found by binary search
+ * without touching the schedule.
+ */
+public final class RouteGraph {
+
+    private static final int N = Airport.COUNT;
+
+    // Sort key layout: pair or origin (bits 52+), departure minute (31 bits), leg index (21 bits)
+    private static final int LEG_BITS = 21;
+    private static final int LEG_MASK = (1 << LEG_BITS) - 1;
+
+    private final Schedule schedule;
+
+    // Legs by origin: byOrigin[originStart[o] .. originStart[o + 1])
+    final int[] originStart = new int[N + 1];
+    final int[] byOrigin;
+    final int[] byOriginDeparture;
+
+    // Legs by pair: byPair[pairStart[o * N + d] .. pairStart[o * N + d + 1])
+    final int[] pairStart = new int[N * N + 1];
+    final int[] byPair;
+    final int[] byPairDeparture;
+
+    public RouteGraph(Schedule schedule) {
+        this.schedule = schedule;
+        int n = schedule.size();
+
+        if (n > LEG_MASK + 1) throw new IllegalArgumentException("Too many legs: " + n);
+
+        // Sort leg indices once by (origin, destination, departure), packed into one long per leg
+        long[] keys = new long[n];
+        for (int leg = 0; leg < n; leg++) {
+            long pair = schedule.origin[leg] * N + schedule.destination[leg];
+            keys[leg] = (pair << 52) | ((long) schedule.departureMinute[leg] << LEG_BITS) | leg;
+        }
+        Arrays.sort(keys);
+
+        byPair = new int[n];
+        byPairDeparture = new int[n];
+        for (int i = 0; i < n; i++) {
+            int leg = (int) (keys[i] & LEG_MASK);
+            byPair[i] = leg;
+            byPairDeparture[i] = schedule.departureMinute[leg];
+            pairStart[schedule.origin[leg] * N + schedule.destination[leg] + 1]++;
+        }
+        for (int p = 0; p < N * N; p++) pairStart[p + 1] += pairStart[p];
+
+        // Same again by (origin, departure)
+        for (int leg = 0; leg < n; leg++) {
+            keys[leg] = ((long) schedule.origin[leg] << 52)
+                    | ((long) schedule.departureMinute[leg] << LEG_BITS) | leg;
+        }
+        Arrays.sort(keys);
+        byOrigin = new int[n];
+        byOriginDeparture = new int[n];
+        for (int i = 0; i < n; i++) {
+            int leg = (int) (keys[i] & LEG_MASK);
+            byOrigin[i] = leg;
+            byOriginDeparture[i] = schedule.departureMinute[leg];
+            originStart[schedule.origin[leg] + 1]++;
+        }
+        for (int o = 0; o < N; o++) originStart[o + 1] += originStart[o];
+    }
+
+    public Schedule schedule() {
+        return schedule;
+    }
+
+    /** First position in [from, to) whose departure is >= minute. */
+    static int lowerBound(int[] departures, int from, int to, int minute) {
+        int lo = from, hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (departures[mid] < minute) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
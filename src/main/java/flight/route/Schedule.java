@@ -0,0 +1,101 @@
+// src/main/java/flight/route/Schedule.java
+package flight.route;
+
+import flight.Airport;
+
+import java.util.Arrays;
+
+/**
+ * Flight legs in columnar form; leg i is (origin[i] -> destination[i]).
+ *
+ * Times are minutes on one timeline (epoch-day * 1440 + minute of day, UTC);
+ * the departure date of a search is matched against the departure minute's
+ * day. Fares are per passenger in economy, in cents. Immutable once built.
+ */
+public final class Schedule {
+
+    public static final int MINUTES_PER_DAY = 1440;
+
+    final int[] flightNumber;
+    final int[] origin;
+    final int[] destination;
+    final int[] departureMinute;
+    final int[] arrivalMinute;
+    final int[] fareCents;
+    private final int size;
+
+    private Schedule(Builder b) {
+        this.size            = b.size;
+        this.flightNumber    = Arrays.copyOf(b.flightNumber, size);
+        this.origin          = Arrays.copyOf(b.origin, size);
+        this.destination     = Arrays.copyOf(b.destination, size);
+        this.departureMinute = Arrays.copyOf(b.departureMinute, size);
+        this.arrivalMinute   = Arrays.copyOf(b.arrivalMinute, size);
+        this.fareCents       = Arrays.copyOf(b.fareCents, size);
+    }
+
+    public int size()                    { return size; }
+    public int flightNumber(int leg)     { return flightNumber[leg]; }
+    public int origin(int leg)           { return origin[leg]; }
+    public int destination(int leg)      { return destination[leg]; }
+    public int departureMinute(int leg)  { return departureMinute[leg]; }
+    public int arrivalMinute(int leg)    { return arrivalMinute[leg]; }
+    public int fareCents(int leg)        { return fareCents[leg]; }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int[] flightNumber    = new int[1024];
+        private int[] origin          = new int[1024];
+        private int[] destination     = new int[1024];
+        private int[] departureMinute = new int[1024];
+        private int[] arrivalMinute   = new int[1024];
+        private int[] fareCents       = new int[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        /** Adds a leg and returns its index. Airports are Airport ordinals; the fare must not be negative. */
+        public int addLeg(int flightNumber, int origin, int destination,
+                          int departureMinute, int arrivalMinute, int fareCents) {
+            if (origin < 0 || origin >= Airport.COUNT || destination < 0 || destination >= Airport.COUNT
+                    || origin == destination) {
+                throw new IllegalArgumentException("Bad airports " + origin + " -> " + destination);
+            }
+            if (departureMinute < 0) {
+                throw new IllegalArgumentException("Departure minute must not be negative");
+            }
+            if (arrivalMinute <= departureMinute) {
+                throw new IllegalArgumentException("Leg must arrive after it departs");
+            }
+            if (fareCents < 0) {
+                throw new IllegalArgumentException("Fare must not be negative: " + fareCents);
+            }
+            if (size == this.origin.length) grow();
+            this.flightNumber[size]    = flightNumber;
+            this.origin[size]          = origin;
+            this.destination[size]     = destination;
+            this.departureMinute[size] = departureMinute;
+            this.arrivalMinute[size]   = arrivalMinute;
+            this.fareCents[size]       = fareCents;
+            return size++;
+        }
+
+        public Schedule build() {
+            return new Schedule(this);
+        }
+
+        private void grow() {
+            int n = size * 2;
+            flightNumber    = Arrays.copyOf(flightNumber, n);
+            origin          = Arrays.copyOf(origin, n);
+            destination     = Arrays.copyOf(destination, n);
+            departureMinute = Arrays.copyOf(departureMinute, n);
+            arrivalMinute   = Arrays.copyOf(arrivalMinute, n);
+            fareCents       = Arrays.copyOf(fareCents, n);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+// src/main/java/flight/route/SyntheticSchedules.java
+package flight.route;
+
+import flight.Airport;
+
+import java.util.Random;
+
+/**
+ * Generates plausible schedules for tests and benchmarks: legs spread evenly
+ * over every airport pair and day, with block times and fares roughly by
+ * distance.
+ */
+public final class SyntheticSchedules {
+
+    // Approximate block times in minutes, indexed by Airport ordinal (syd, mel, lax, cdg, del, pvg, doh)
+    private static final int[][] BLOCK_MINUTES = {
+            {   0,   85,  840, 1320,  780,  630,  870},
+            {  85,    0,  900, 1350,  720,  660,  840},
+            { 840,  900,    0,  660,  960,  780,  960},
+            {1320, 1350,  660,    0,  540,  720,  390},
+            { 780,  720,  960,  540,    0,  330,  240},
+            { 630,  660,  780,  720,  330,    0,  600},
+            { 870,  840,  960,  390,  240,  600,    0},
+    };
+
+    private SyntheticSchedules() {
+    }
+
+    public static Schedule generate(int legs, long firstEpochDay, int days, long seed) {
+        Random rnd = new Random(seed);
+        Schedule.Builder b = Schedule.builder();
+        int dayStart = (int) (firstEpochDay * Schedule.MINUTES_PER_DAY);
+        for (int i = 0; i < legs; i++) {
+            int o = rnd.nextInt(Airport.COUNT);
+            int d = rnd.nextInt(Airport.COUNT - 1);
+            if (d >= o) d++;
+            int block = BLOCK_MINUTES[o][d] + rnd.nextInt(31) - 15;
+            int departure = dayStart + rnd.nextInt(days) * Schedule.MINUTES_PER_DAY + rnd.nextInt(24 * 12) * 5;
+            int fare = BLOCK_MINUTES[o][d] * (90 + rnd.nextInt(60)) + 4_900;
+            b.addLeg(100 + i, o, d, departure, departure + block, fare);
+        }
+        return b.build();
+    }
+}
@@ -0,0 +1,36 @@
+// src/main/java/flight/rules/Predicate.java
+package flight.rules;
+
+/**
+ * The primitive tests a {@link Rule} can make on a decoded request. Each one
+ * is true when the request FAILS the rule. {@code param} is the rule's single
+ * parameter (a bound, a ratio or a SeatingClass bitmask); the others ignore it.
+ */
+public enum Predicate {
+    CLASS_UNKNOWN(1),                    // class not in the allowed set
+    AIRPORT_UNKNOWN(1),                  // origin or destination not in the allowed set
+    SAME_AIRPORT(1),                     // origin == destination
+    DATE_INVALID(1),                     // either date unparseable
+    DEPARTS_BEFORE_TODAY(1),             // departure < today
+    RETURNS_BEFORE_DEPARTURE(1),         // return < departure
+    PASSENGERS_BELOW(2),                 // adults + children + infants < param
+    PASSENGERS_ABOVE(2),                 // adults + children + infants > param
+    EMERGENCY_ROW_CLASS_NOT_IN(1),       // emergency row and class not in mask param
+    CHILDREN_IN_EMERGENCY_ROW(1),        // children > 0 and emergency row
+    CHILDREN_CLASS_IN(1),                // children > 0 and class in mask param
+    CHILDREN_PER_ADULT_ABOVE(2),         // children > 0 and children > adults * param
+    INFANTS_IN_EMERGENCY_ROW(1),         // infants > 0 and emergency row
+    INFANTS_CLASS_IN(1),                 // infants > 0 and class in mask param
+    INFANTS_PER_ADULT_ABOVE(2);          // infants > 0 and infants > adults * param
+
+    private final int cost;
+
+    Predicate(int cost) {
+        this.cost = cost;
+    }
+
+    /** Relative evaluation cost, used to weigh rejection rates when reordering. */
+    public int cost() {
+        return cost;
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/flight/rules/Rule.java
+package flight.rules;
+
+import flight.ValidationOutcome;
+
+import java.util.Objects;
+
+/**
+ * One validation condition: the request is rejected with {@code outcome}
+ * when {@code predicate} holds for it.
+ */
+public record Rule(ValidationOutcome outcome, Predicate predicate, int param) {
+
+    public Rule {
+        Objects.requireNonNull(outcome, "outcome");
+        Objects.requireNonNull(predicate, "predicate");
+        if (outcome.isAccepted()) {
+            throw new IllegalArgumentException("A rule must reject: " + predicate);
+        }
+    }
+
+    public static Rule of(ValidationOutcome outcome, Predicate predicate) {
+        return new Rule(outcome, predicate, 0);
+    }
+}
@@ -0,0 +1,133 @@
+// src/main/java/flight/rules/RuleConfig.java
+package flight.rules;
+
+import flight.FlightRules;
+import flight.SeatingClass;
+import flight.ValidationOutcome;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Tunable parameters of the validation rules. {@link #DEFAULTS} is the
+ * current specification (the values hard-coded in FlightRules).
+ *
+ * A config file is a properties file; every key is optional and falls back
+ * to the default:
+ *
+ * <pre>
+ *   passengers.min            = 1
+ *   passengers.max            = 9
+ *   children.perAdult         = 2
+ *   infants.perAdult          = 1
+ *   emergencyRow.classes      = economy
+ *   children.forbiddenClasses = first
+ *   infants.forbiddenClasses  = business
+ * </pre>
+ *
+ * Class lists are comma-separated seating class codes ("premium economy"
+ * included); an empty list means no class. Unknown keys are rejected so a
+ * typo cannot silently leave a default in force.
+ */
+public record RuleConfig(int minPassengers, int maxPassengers, int childrenPerAdult, int infantsPerAdult,
+                         int emergencyRowClasses, int childForbiddenClasses, int infantForbiddenClasses) {
+
+    public static final RuleConfig DEFAULTS = new RuleConfig(1, 9, 2, 1,
+            SeatingClass.ECONOMY.bit(), SeatingClass.FIRST.bit(), SeatingClass.BUSINESS.bit());
+
+    private static final Set<String> KEYS = Set.of("passengers.min", "passengers.max", "children.perAdult",
+            "infants.perAdult", "emergencyRow.classes", "children.forbiddenClasses", "infants.forbiddenClasses");
+
+    private static final int ALL_CLASSES = (1 << SeatingClass.COUNT) - 1;
+
+    public RuleConfig {
+        if (minPassengers < 0 || maxPassengers < minPassengers) {
+            throw new IllegalArgumentException("Bad passenger range " + minPassengers + ".." + maxPassengers);
+        }
+        if (childrenPerAdult < 0 || infantsPerAdult < 0) {
+            throw new IllegalArgumentException("Ratios must not be negative");
+        }
+        if (((emergencyRowClasses | childForbiddenClasses | infantForbiddenClasses) & ~ALL_CLASSES) != 0) {
+            throw new IllegalArgumentException("Class masks must be SeatingClass bits");
+        }
+    }
+
+    /** Reads a config file (UTF-8 properties). */
+    public static RuleConfig load(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(in);
+        }
+        return fromProperties(props);
+    }
+
+    public static RuleConfig fromProperties(Properties props) {
+        for (String key : props.stringPropertyNames()) {
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown rule setting: " + key);
+            }
+        }
+        RuleConfig d = DEFAULTS;
+        return new RuleConfig(
+                intValue(props, "passengers.min", d.minPassengers),
+                intValue(props, "passengers.max", d.maxPassengers),
+                intValue(props, "children.perAdult", d.childrenPerAdult),
+                intValue(props, "infants.perAdult", d.infantsPerAdult),
+                classMask(props, "emergencyRow.classes", d.emergencyRowClasses),
+                classMask(props, "children.forbiddenClasses", d.childForbiddenClasses),
+                classMask(props, "infants.forbiddenClasses", d.infantForbiddenClasses));
+    }
+
+    /** The conditions of runFlightSearch with these parameters, in specification order. */
+    public List<Rule> rules() {
+        return List.of(
+                Rule.of(ValidationOutcome.INVALID_CLASS, Predicate.CLASS_UNKNOWN),
+                Rule.of(ValidationOutcome.INVALID_AIRPORT, Predicate.AIRPORT_UNKNOWN),
+                Rule.of(ValidationOutcome.SAME_AIRPORT, Predicate.SAME_AIRPORT),
+                Rule.of(ValidationOutcome.INVALID_DATE, Predicate.DATE_INVALID),
+                Rule.of(ValidationOutcome.DEPARTURE_IN_PAST, Predicate.DEPARTS_BEFORE_TODAY),                // Condition 6
+                Rule.of(ValidationOutcome.RETURN_BEFORE_DEPARTURE, Predicate.RETURNS_BEFORE_DEPARTURE),      // Condition 8
+                new Rule(ValidationOutcome.PASSENGER_TOTAL, Predicate.PASSENGERS_BELOW, minPassengers),      // Condition 1
+                new Rule(ValidationOutcome.PASSENGER_TOTAL, Predicate.PASSENGERS_ABOVE, maxPassengers),      // Condition 1
+                new Rule(ValidationOutcome.EMERGENCY_ROW_CLASS, Predicate.EMERGENCY_ROW_CLASS_NOT_IN,
+                        emergencyRowClasses),                                                                // Updated Condition 10
+                Rule.of(ValidationOutcome.CHILD_IN_EMERGENCY_ROW, Predicate.CHILDREN_IN_EMERGENCY_ROW),      // Condition 2
+                new Rule(ValidationOutcome.CHILD_IN_FIRST, Predicate.CHILDREN_CLASS_IN, childForbiddenClasses), // Condition 2
+                new Rule(ValidationOutcome.CHILD_RATIO, Predicate.CHILDREN_PER_ADULT_ABOVE, childrenPerAdult),  // Condition 4
+                Rule.of(ValidationOutcome.INFANT_IN_EMERGENCY_ROW, Predicate.INFANTS_IN_EMERGENCY_ROW),      // Condition 3
+                new Rule(ValidationOutcome.INFANT_IN_BUSINESS, Predicate.INFANTS_CLASS_IN, infantForbiddenClasses), // Condition 3
+                new Rule(ValidationOutcome.INFANT_RATIO, Predicate.INFANTS_PER_ADULT_ABOVE, infantsPerAdult));  // Condition 5
+    }
+
+    private static int intValue(Properties props, String key, int fallback) {
+        String v = props.getProperty(key);
+        if (v == null) return fallback;
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Not a number for " + key + ": " + v, ex);
+        }
+    }
+
+    private static int classMask(Properties props, String key, int fallback) {
+        String v = props.getProperty(key);
+        if (v == null) return fallback;
+        int mask = 0;
+        for (String code : v.split(",")) {
+            String c = code.trim();
+            if (c.isEmpty()) continue;
+            int cls = SeatingClass.ordinalOf(c);
+            if (cls == FlightRules.UNKNOWN) {
+                throw new IllegalArgumentException("Unknown seating class for " + key + ": " + c);
+            }
+            mask |= 1 << cls;
+        }
+        return mask;
+    }
+}
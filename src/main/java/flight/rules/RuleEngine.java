@@ -0,0 +1,249 @@
+// src/main/java/flight/rules/RuleEngine.java
+package flight.rules;
+
+import flight.DmyDateParser;
+import flight.FlightRules;
+import flight.RuleChain;
+import flight.ValidationOutcome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validation rules compiled to flat arrays and evaluated in a loop.
+ *
+ * Every rule is an independent predicate over the decoded request, so the
+ * request is accepted exactly when no predicate holds, in any order. Both
+ * entry points walk the rules in an adaptive order, most often rejecting
+ * (per unit of cost) first:
+ *
+ * <ul>
+ *   <li>{@link #check} reports the first failing rule in specification order,
+ *       the same outcome FlightRules gives, so it can stand in as a RuleChain.
+ *       Once the adaptive pass finds a failing rule, only the rules before it
+ *       in specification order that the pass has not already run are
+ *       evaluated to find the reason.</li>
+ *   <li>{@link #accepts} only needs to find some failing rule.</li>
+ * </ul>
+ *
+ * Rejections are counted per rule in LongAdders. One rejection in 256
+ * (sampled with ThreadLocalRandom) compares the total with the total at the
+ * last reorder; after {@link #REORDER_EVERY} more, a reorder is handed to
+ * the reorder executor (the common pool by default), so callers never take
+ * the lock. The new order is published as a new array.
+ */
+public final class RuleEngine implements RuleChain {
+
+    /** Rejections between automatic reorderings. */
+    public static final int REORDER_EVERY = 1 << 14;
+
+    private static final long COST_SCALE = 4;
+
+    private static final int SAMPLE_MASK = (1 << 8) - 1;
+
+    // Compiled rules, indexed by position in specification order
+    private final Predicate[]         predicates;
+    private final int[]               params;
+    private final ValidationOutcome[] outcomes;
+
+    private final LongAdder[] rejections;
+    private final Executor reorderExecutor;
+    private final AtomicBoolean reorderQueued = new AtomicBoolean();
+    private volatile long reorderedAt; // total rejections the current order was computed from
+    private volatile int[] order;
+
+    /** Engine for the rules of {@code config} in specification order. */
+    public RuleEngine(RuleConfig config) {
+        this(config.rules());
+    }
+
+    /** Engine for arbitrary rules; list order is the order reasons are reported in. */
+    public RuleEngine(List<Rule> rules) {
+        this(rules, ForkJoinPool.commonPool());
+    }
+
+    /** As above, with automatic reorders run on {@code reorderExecutor}. */
+    public RuleEngine(List<Rule> rules, Executor reorderExecutor) {
+        this.reorderExecutor = reorderExecutor;
+        int n = rules.size();
+        this.predicates = new Predicate[n];
+        this.params     = new int[n];
+        this.outcomes   = new ValidationOutcome[n];
+        this.rejections = new LongAdder[n];
+        int[] initial = new int[n];
+        for (int i = 0; i < n; i++) {
+            Rule r = rules.get(i);
+            predicates[i] = r.predicate();
+            params[i]     = r.param();
+            outcomes[i]   = r.outcome();
+            rejections[i] = new LongAdder();
+            initial[i]    = i;
+        }
+        this.order = initial;
+    }
+
+    /** First failing rule in specification order, or ACCEPTED. */
+    @Override
+    public ValidationOutcome check(int seatingClass, int departureAirport, int destinationAirport,
+                                   long departureDay, long returnDay, long today,
+                                   boolean emergencyRowSeating,
+                                   int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        long passed = 0; // rules (of the first 64) the adaptive pass has seen pass
+        for (int j : order) {
+            if (!fails(j, seatingClass, departureAirport, destinationAirport, departureDay, returnDay, today,
+                    emergencyRowSeating, adultPassengerCount, childPassengerCount, infantPassengerCount)) {
+                if (j < 64) passed |= 1L << j;
+                continue;
+            }
+            // Rejected; the reason is the first failing rule in specification order
+            int first = j;
+            for (int i = 0; i < j; i++) {
+                if ((i >= 64 || (passed & (1L << i)) == 0)
+                        && fails(i, seatingClass, departureAirport, destinationAirport, departureDay, returnDay,
+                        today, emergencyRowSeating, adultPassengerCount, childPassengerCount, infantPassengerCount)) {
+                    first = i;
+                    break;
+                }
+            }
+            rejected(first);
+            return outcomes[first];
+        }
+        return ValidationOutcome.ACCEPTED;
+    }
+
+    /** True when no rule fails; rules run in the current adaptive order. */
+    public boolean accepts(int seatingClass, int departureAirport, int destinationAirport,
+                           long departureDay, long returnDay, long today,
+                           boolean emergencyRowSeating,
+                           int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        for (int i : order) {
+            if (fails(i, seatingClass, departureAirport, destinationAirport, departureDay, returnDay, today,
+                    emergencyRowSeating, adultPassengerCount, childPassengerCount, infantPassengerCount)) {
+                rejected(i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Outcomes of the rules in the order {@link #accepts} currently evaluates them. */
+    public List<ValidationOutcome> evaluationOrder() {
+        List<ValidationOutcome> out = new ArrayList<>(predicates.length);
+        for (int i : order) {
+            out.add(outcomes[i]);
+        }
+        return out;
+    }
+
+    /** Rejections observed per rule (the reported reason for check()), in specification order. */
+    public long[] rejectionCounts() {
+        long[] out = new long[rejections.length];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = rejections[i].sum();
+        }
+        return out;
+    }
+
+    /**
+     * Recomputes the adaptive order: highest rejections per unit of cost
+     * first, ties in specification order.
+     */
+    public synchronized void reorder() {
+        int n = predicates.length;
+        long[] score = new long[n];
+        Integer[] byScore = new Integer[n];
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            long count = rejections[i].sum();
+            total     += count;
+            score[i]   = count * COST_SCALE / predicates[i].cost();
+            byScore[i] = i;
+        }
+        Arrays.sort(byScore, (a, b) -> score[a] != score[b] ? Long.compare(score[b], score[a]) : Integer.compare(a, b));
+        int[] next = new int[n];
+        for (int k = 0; k < n; k++) {
+            next[k] = byScore[k];
+        }
+        order = next;
+        reorderedAt = total;
+    }
+
+    private void rejected(int rule) {
+        rejections[rule].increment();
+        if ((ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) == 0
+                && totalRejections() - reorderedAt >= REORDER_EVERY
+                && reorderQueued.compareAndSet(false, true)) {
+            try {
+                reorderExecutor.execute(() -> {
+                    try {
+                        reorder();
+                    } finally {
+                        reorderQueued.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                reorderQueued.set(false); // try again on a later sample
+            }
+        }
+    }
+
+    private long totalRejections() {
+        long total = 0;
+        for (LongAdder r : rejections) {
+            total += r.sum();
+        }
+        return total;
+    }
+
+    private boolean fails(int i, int seatingClass, int departureAirport, int destinationAirport,
+                          long departureDay, long returnDay, long today,
+                          boolean emergencyRowSeating,
+                          int adultPassengerCount, int childPassengerCount, int infantPassengerCount) {
+        int param = params[i];
+        switch (predicates[i]) {
+            case CLASS_UNKNOWN:
+                return seatingClass == FlightRules.UNKNOWN;
+            case AIRPORT_UNKNOWN:
+                return departureAirport == FlightRules.UNKNOWN || destinationAirport == FlightRules.UNKNOWN;
+            case SAME_AIRPORT:
+                return departureAirport == destinationAirport;
+            case DATE_INVALID:
+                return departureDay == DmyDateParser.INVALID || returnDay == DmyDateParser.INVALID;
+            case DEPARTS_BEFORE_TODAY:
+                return departureDay < today;
+            case RETURNS_BEFORE_DEPARTURE:
+                return returnDay < departureDay;
+            case PASSENGERS_BELOW:
+                return adultPassengerCount + childPassengerCount + infantPassengerCount < param;
+            case PASSENGERS_ABOVE:
+                return adultPassengerCount + childPassengerCount + infantPassengerCount > param;
+            case EMERGENCY_ROW_CLASS_NOT_IN:
+                return emergencyRowSeating && !inClassSet(param, seatingClass);
+            case CHILDREN_IN_EMERGENCY_ROW:
+                return childPassengerCount > 0 && emergencyRowSeating;
+            case CHILDREN_CLASS_IN:
+                return childPassengerCount > 0 && inClassSet(param, seatingClass);
+            case CHILDREN_PER_ADULT_ABOVE:
+                return childPassengerCount > 0 && adultPassengerCount * param < childPassengerCount;
+            case INFANTS_IN_EMERGENCY_ROW:
+                return infantPassengerCount > 0 && emergencyRowSeating;
+            case INFANTS_CLASS_IN:
+                return infantPassengerCount > 0 && inClassSet(param, seatingClass);
+            case INFANTS_PER_ADULT_ABOVE:
+                return infantPassengerCount > 0 && adultPassengerCount * param < infantPassengerCount;
+            default:
+                throw new AssertionError(predicates[i]);
+        }
+    }
+
+    private static boolean inClassSet(int classMask, int seatingClass) {
+        return (classMask & (1 << seatingClass)) != 0;
+    }
+}
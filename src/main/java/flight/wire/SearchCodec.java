@@ -0,0 +1,216 @@
+// src/main/java/flight/wire/SearchCodec.java
+package flight.wire;
+
+import flight.Airport;
+import flight.DmyDateParser;
+import flight.FlightRules;
+import flight.RuleChain;
+import flight.SearchRequest;
+import flight.SeatingClass;
+import flight.ValidationOutcome;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Fixed 16-byte binary form of a search request, read and written in place in
+ * a ByteBuffer (heap or direct) at any offset, without copying or allocating.
+ *
+ * <pre>
+ *   offset  size  field
+ *     0      1    version (1)
+ *     1      1    departure airport ordinal, 0xFF = not allowed
+ *     2      1    destination airport ordinal, 0xFF = not allowed
+ *     3      1    seating class ordinal, 0xFF = not allowed
+ *     4      1    flags: bit 0 emergency row, bit 1 departure date invalid, bit 2 return date invalid
+ *     5      1    adults (high nibble) | children (low nibble)
+ *     6      1    infants (high nibble), low nibble 0
+ *     7      1    reserved, 0
+ *     8      4    departure epoch-day (int, little-endian), 0 when invalid
+ *    12      4    return epoch-day (int, little-endian), 0 when invalid
+ * </pre>
+ *
+ * Everything the rules look at is kept, so {@link #check} on the bytes gives
+ * the same outcome as validating the string form. Two things cannot be
+ * encoded and make the encoder throw: passenger counts outside 0..15, and
+ * dates whose epoch-day does not fit an int (years beyond about ±5.8 million).
+ */
+public final class SearchCodec {
+
+    /** Bytes per encoded request. */
+    public static final int SIZE = 16;
+
+    public static final byte VERSION = 1;
+
+    private static final int OFF_VERSION     = 0;
+    private static final int OFF_FROM        = 1;
+    private static final int OFF_TO          = 2;
+    private static final int OFF_CLASS       = 3;
+    private static final int OFF_FLAGS       = 4;
+    private static final int OFF_ADULT_CHILD = 5;
+    private static final int OFF_INFANT      = 6;
+    private static final int OFF_DEPARTURE   = 8;
+    private static final int OFF_RETURN      = 12;
+
+    private static final int NOT_ALLOWED = 0xFF;
+
+    private static final int FLAG_EMERGENCY   = 1;
+    private static final int FLAG_BAD_DEPART  = 1 << 1;
+    private static final int FLAG_BAD_RETURN  = 1 << 2;
+
+    // Explicit byte order, independent of the order set on the caller's buffer
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private SearchCodec() {
+    }
+
+    /** Encodes the string form of a request at {@code offset}. */
+    public static void encode(SearchRequest request, ByteBuffer buf, int offset) {
+        encode(FlightRules.seatingClassCode(request.seatingClass()),
+                FlightRules.airportCode(request.departureAirportCode()),
+                FlightRules.airportCode(request.destinationAirportCode()),
+                DmyDateParser.parseEpochDay(request.departureDate()),
+                DmyDateParser.parseEpochDay(request.returnDate()),
+                request.emergencyRowSeating(),
+                request.adultPassengerCount(), request.childPassengerCount(), request.infantPassengerCount(),
+                buf, offset);
+    }
+
+    /**
+     * Encodes a decoded request (ordinals or FlightRules.UNKNOWN, epoch-days or
+     * DmyDateParser.INVALID) at {@code offset}.
+     */
+    public static void encode(int seatingClass, int departureAirport, int destinationAirport,
+                              long departureDay, long returnDay, boolean emergencyRowSeating,
+                              int adultPassengerCount, int childPassengerCount, int infantPassengerCount,
+                              ByteBuffer buf, int offset) {
+        if (((adultPassengerCount | childPassengerCount | infantPassengerCount) & ~0xF) != 0) {
+            throw new IllegalArgumentException("Passenger counts must be 0..15: " + adultPassengerCount
+                    + "/" + childPassengerCount + "/" + infantPassengerCount);
+        }
+        int flags = emergencyRowSeating ? FLAG_EMERGENCY : 0;
+        if (departureDay == DmyDateParser.INVALID) {
+            flags |= FLAG_BAD_DEPART;
+            departureDay = 0;
+        }
+        if (returnDay == DmyDateParser.INVALID) {
+            flags |= FLAG_BAD_RETURN;
+            returnDay = 0;
+        }
+        if ((int) departureDay != departureDay || (int) returnDay != returnDay) {
+            throw new IllegalArgumentException("Date out of range: " + departureDay + "/" + returnDay);
+        }
+        buf.put(offset + OFF_VERSION, VERSION);
+        buf.put(offset + OFF_FROM, ordinalByte(departureAirport));
+        buf.put(offset + OFF_TO, ordinalByte(destinationAirport));
+        buf.put(offset + OFF_CLASS, ordinalByte(seatingClass));
+        buf.put(offset + OFF_FLAGS, (byte) flags);
+        buf.put(offset + OFF_ADULT_CHILD, (byte) (adultPassengerCount << 4 | childPassengerCount));
+        buf.put(offset + OFF_INFANT, (byte) (infantPassengerCount << 4));
+        buf.put(offset + OFF_INFANT + 1, (byte) 0);
+        INT.set(buf, offset + OFF_DEPARTURE, (int) departureDay);
+        INT.set(buf, offset + OFF_RETURN, (int) returnDay);
+    }
+
+    /** Validates the encoded request at {@code offset} with FlightRules. */
+    public static ValidationOutcome check(ByteBuffer buf, int offset, long today) {
+        return check(buf, offset, today, FlightRules.CHAIN);
+    }
+
+    /** Validates the encoded request at {@code offset} straight from the bytes. */
+    public static ValidationOutcome check(ByteBuffer buf, int offset, long today, RuleChain rules) {
+        checkVersion(buf, offset);
+        int flags = buf.get(offset + OFF_FLAGS);
+        int ac    = buf.get(offset + OFF_ADULT_CHILD) & 0xFF;
+        return rules.check(seatingClass(buf, offset), departureAirport(buf, offset), destinationAirport(buf, offset),
+                (flags & FLAG_BAD_DEPART) != 0 ? DmyDateParser.INVALID : (int) INT.get(buf, offset + OFF_DEPARTURE),
+                (flags & FLAG_BAD_RETURN) != 0 ? DmyDateParser.INVALID : (int) INT.get(buf, offset + OFF_RETURN),
+                today, (flags & FLAG_EMERGENCY) != 0,
+                ac >>> 4, ac & 0xF, (buf.get(offset + OFF_INFANT) & 0xFF) >>> 4);
+    }
+
+    /**
+     * String form of the encoded request. Codes come back lowercase and dates
+     * as dd/MM/yyyy; a field that was not allowed or not a valid date comes
+     * back as null, which validates the same way.
+     */
+    public static SearchRequest decode(ByteBuffer buf, int offset) {
+        checkVersion(buf, offset);
+        int cls  = seatingClass(buf, offset);
+        int from = departureAirport(buf, offset);
+        int to   = destinationAirport(buf, offset);
+        long dep = departureEpochDay(buf, offset);
+        long ret = returnEpochDay(buf, offset);
+        return new SearchRequest(
+                dep == DmyDateParser.INVALID ? null : LocalDate.ofEpochDay(dep).format(DMY),
+                from == FlightRules.UNKNOWN ? null : Airport.ofOrdinal(from).code(),
+                emergencyRowSeating(buf, offset),
+                ret == DmyDateParser.INVALID ? null : LocalDate.ofEpochDay(ret).format(DMY),
+                to == FlightRules.UNKNOWN ? null : Airport.ofOrdinal(to).code(),
+                cls == FlightRules.UNKNOWN ? null : SeatingClass.ofOrdinal(cls).code(),
+                adultPassengerCount(buf, offset), childPassengerCount(buf, offset), infantPassengerCount(buf, offset));
+    }
+
+    // -------- Field accessors (ordinals or FlightRules.UNKNOWN, epoch-days or DmyDateParser.INVALID) --------
+
+    public static int departureAirport(ByteBuffer buf, int offset) {
+        return ordinal(buf.get(offset + OFF_FROM), Airport.COUNT);
+    }
+
+    public static int destinationAirport(ByteBuffer buf, int offset) {
+        return ordinal(buf.get(offset + OFF_TO), Airport.COUNT);
+    }
+
+    public static int seatingClass(ByteBuffer buf, int offset) {
+        return ordinal(buf.get(offset + OFF_CLASS), SeatingClass.COUNT);
+    }
+
+    public static boolean emergencyRowSeating(ByteBuffer buf, int offset) {
+        return (buf.get(offset + OFF_FLAGS) & FLAG_EMERGENCY) != 0;
+    }
+
+    public static long departureEpochDay(ByteBuffer buf, int offset) {
+        return (buf.get(offset + OFF_FLAGS) & FLAG_BAD_DEPART) != 0
+                ? DmyDateParser.INVALID : (int) INT.get(buf, offset + OFF_DEPARTURE);
+    }
+
+    public static long returnEpochDay(ByteBuffer buf, int offset) {
+        return (buf.get(offset + OFF_FLAGS) & FLAG_BAD_RETURN) != 0
+                ? DmyDateParser.INVALID : (int) INT.get(buf, offset + OFF_RETURN);
+    }
+
+    public static int adultPassengerCount(ByteBuffer buf, int offset) {
+        return (buf.get(offset + OFF_ADULT_CHILD) & 0xFF) >>> 4;
+    }
+
+    public static int childPassengerCount(ByteBuffer buf, int offset) {
+        return buf.get(offset + OFF_ADULT_CHILD) & 0xF;
+    }
+
+    public static int infantPassengerCount(ByteBuffer buf, int offset) {
+        return (buf.get(offset + OFF_INFANT) & 0xFF) >>> 4;
+    }
+
+    private static byte ordinalByte(int ordinal) {
+        return (byte) (ordinal == FlightRules.UNKNOWN ? NOT_ALLOWED : ordinal);
+    }
+
+    /** Ordinal stored in a byte; anything outside 0..count-1 is treated as not allowed. */
+    private static int ordinal(byte b, int count) {
+        int v = b & 0xFF;
+        return v < count ? v : FlightRules.UNKNOWN;
+    }
+
+    private static void checkVersion(ByteBuffer buf, int offset) {
+        byte version = buf.get(offset + OFF_VERSION);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported search record version " + version + " at " + offset);
+        }
+    }
+}
@@ -0,0 +1,504 @@
+// src/main/java/flight/wire/SearchJournal.java
+package flight.wire;
+
+import flight.SearchRequest;
+import flight.ValidatedSearch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable append-only file of accepted searches, for audit and replay.
+ *
+ * Each search is one fixed 32-byte record:
+ *
+ * <pre>
+ *   offset  size  field
+ *     0      8    sequence (long, little-endian) = record index in the file
+ *     8     16    the search as a {@link SearchCodec} record
+ *    24      4    reserved, 0
+ *    28      4    CRC32C of bytes 0..27 (int, little-endian)
+ * </pre>
+ *
+ * {@link #append} only copies the record into a direct ring buffer and
+ * returns its sequence; it blocks only while the ring is full. A background
+ * writer takes everything appended since its last pass and writes it with
+ * one positional write per contiguous run of the ring (group commit), then
+ * calls FileChannel.force when the fsync policy says so: after
+ * {@code syncEveryRecords} unsynced records, once {@code syncEveryMillis}
+ * have passed since the last fsync, whichever comes first (0 turns a trigger
+ * off). With both off, data reaches the disk when the OS writes it back, or
+ * at {@link #sync()} and {@link #close()}. The default forces after every
+ * write pass. {@link #awaitDurable(long)} waits for the policy to cover a
+ * record; {@link #sync()} forces one fsync shared by every caller waiting
+ * at the time.
+ *
+ * Opening a journal first runs {@link #recover(Path)}: a crash can leave a
+ * half-written record, or records written but not forced, at the end of the
+ * file, so the file is cut at the first record that is short, fails its
+ * CRC or is out of sequence. New records continue from there.
+ */
+public final class SearchJournal implements AutoCloseable {
+
+    /** Bytes per journal record. */
+    public static final int RECORD_SIZE = 32;
+
+    /** Ring size unless given otherwise: 512 KiB. */
+    public static final int DEFAULT_RING_RECORDS = 1 << 14;
+
+    private static final int OFF_SEQUENCE = 0;
+    private static final int OFF_SEARCH   = 8;
+    private static final int OFF_RESERVED = 24;
+    private static final int OFF_CRC      = 28;
+
+    private final FileChannel channel;
+    private final ByteBuffer ring;
+    private final ByteBuffer producerView;
+    private final ByteBuffer writerView;
+    private final int ringMask;
+    private final int syncEveryRecords;
+    private final long syncEveryNanos;
+    private final CRC32C crc = new CRC32C();   // producers, under the lock
+    private final Thread writer;
+
+    private final long recoveredRecords;
+    private final long truncatedBytes;
+
+    // Guarded by this; the volatile ones are also read without the lock
+    private long next;
+    private volatile long written;
+    private volatile long durable;
+    private long syncTarget;
+    private boolean closed;
+    private boolean writerWaiting;
+    private volatile long syncs;
+    private volatile IOException failure;
+
+    private SearchJournal(Builder b, FileChannel channel, long records, long truncatedBytes) {
+        this.channel          = channel;
+        this.ring             = ByteBuffer.allocateDirect(b.ringRecords * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.producerView     = ring.duplicate();
+        this.writerView       = ring.duplicate();
+        this.ringMask         = b.ringRecords - 1;
+        this.syncEveryRecords = b.syncEveryRecords;
+        this.syncEveryNanos   = TimeUnit.MILLISECONDS.toNanos(b.syncEveryMillis);
+        this.recoveredRecords = records;
+        this.truncatedBytes   = truncatedBytes;
+        this.next = this.written = this.durable = records;
+        this.writer = new Thread(this::writeLoop, "search-journal-writer");
+        this.writer.setDaemon(true);
+    }
+
+    public static Builder builder(Path file) {
+        return new Builder(file);
+    }
+
+    /**
+     * Copies an accepted search into the ring and returns its sequence. The
+     * record is written and forced later by the writer thread; blocks while
+     * the ring is full.
+     */
+    public synchronized long append(ValidatedSearch search) {
+        boolean interrupted = false;
+        while (!closed && next - written > ringMask) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        checkOpen();
+
+        long seq = next;
+        int off = (int) (seq & ringMask) * RECORD_SIZE;
+        SearchRequest r = search.request();
+        ring.putLong(off + OFF_SEQUENCE, seq);
+        SearchCodec.encode(search.seatingClass(), search.departureAirport(), search.destinationAirport(),
+                search.departureEpochDay(), search.returnEpochDay(), r.emergencyRowSeating(),
+                r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount(),
+                ring, off + OFF_SEARCH);
+        ring.putInt(off + OFF_RESERVED, 0);
+        ring.putInt(off + OFF_CRC, checksum(crc, producerView, off));
+        next = seq + 1;
+        if (writerWaiting) {
+            notifyAll();
+        }
+        return seq;
+    }
+
+    /** Waits until record {@code sequence} has been forced to disk by the fsync policy. */
+    public synchronized void awaitDurable(long sequence) throws InterruptedException {
+        while (durable <= sequence) {
+            checkFailure();
+            if (closed && !writer.isAlive()) {
+                throw new IllegalStateException("Journal closed before record " + sequence + " was forced");
+            }
+            wait();
+        }
+    }
+
+    /** Forces every record appended so far to disk, sharing the fsync with concurrent callers. */
+    public void sync() throws InterruptedException {
+        long target;
+        synchronized (this) {
+            checkOpen();
+            target = next;
+            if (target <= durable) {
+                return;
+            }
+            syncTarget = Math.max(syncTarget, target);
+            notifyAll();
+        }
+        awaitDurable(target - 1);
+    }
+
+    /** Records appended, i.e. the sequence the next append gets (includes recovered records). */
+    public synchronized long appended() {
+        return next;
+    }
+
+    /** Records handed to the file so far (in the page cache at least). */
+    public long written() {
+        return written;
+    }
+
+    /** Records forced to disk so far. */
+    public long durable() {
+        return durable;
+    }
+
+    /** Number of FileChannel.force calls made. */
+    public long syncs() {
+        return syncs;
+    }
+
+    /** Valid records found in the file when it was opened. */
+    public long recoveredRecords() {
+        return recoveredRecords;
+    }
+
+    /** Bytes cut off the end of the file when it was opened. */
+    public long truncatedBytes() {
+        return truncatedBytes;
+    }
+
+    /** Writes and forces everything appended, then closes the file. Appends after this fail. */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Cuts {@code file} after its last valid record (see the class comment)
+     * and returns the number of valid records. A missing file is created empty.
+     */
+    public static long recover(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return recover(ch);
+        }
+    }
+
+    private static long recover(FileChannel ch) throws IOException {
+        Reader reader = new Reader(ch, false);
+        while (reader.next()) {
+            // scan only
+        }
+        long valid = reader.count();
+        if (ch.size() > valid * RECORD_SIZE) {
+            ch.truncate(valid * RECORD_SIZE);
+            ch.force(true);
+        }
+        return valid;
+    }
+
+    /** Reads the valid records of a journal file in order; the file is not modified. */
+    public static Reader read(Path file) throws IOException {
+        return new Reader(FileChannel.open(file, StandardOpenOption.READ), true);
+    }
+
+    // ---- writer thread ----
+
+    private void writeLoop() {
+        long lastSync = System.nanoTime();
+        try {
+            while (true) {
+                long from, to;
+                boolean closing, syncRequested;
+                synchronized (this) {
+                    while (!closed && next == written && syncTarget <= durable) {
+                        long timeout = 0;
+                        if (syncEveryNanos > 0 && written > durable) {
+                            timeout = lastSync + syncEveryNanos - System.nanoTime();
+                            if (timeout <= 0) {
+                                break;
+                            }
+                        }
+                        writerWaiting = true;
+                        if (timeout > 0) {
+                            TimeUnit.NANOSECONDS.timedWait(this, timeout);
+                        } else {
+                            wait();
+                        }
+                        writerWaiting = false;
+                    }
+                    from = written;
+                    to = next;
+                    closing = closed;
+                    syncRequested = syncTarget > durable;
+                }
+                if (to > from) {
+                    write(from, to);
+                    synchronized (this) {
+                        written = to;
+                        notifyAll();
+                    }
+                }
+                long now = System.nanoTime();
+                long unsynced = to - durable;
+                if (unsynced > 0 && (closing || syncRequested
+                        || (syncEveryRecords > 0 && unsynced >= syncEveryRecords)
+                        || (syncEveryNanos > 0 && now - lastSync >= syncEveryNanos))) {
+                    channel.force(false);
+                    lastSync = now;
+                    synchronized (this) {
+                        syncs++;
+                        durable = to;
+                        notifyAll();
+                    }
+                }
+                if (closing) {
+                    return; // nothing can be appended once closed is seen
+                }
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                failure = e;
+                closed = true;
+                notifyAll();
+            }
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                failure = new IOException("Journal writer interrupted", e);
+                closed = true;
+                notifyAll();
+            }
+        }
+    }
+
+    /** Writes records [from, to) from the ring at their file positions, in at most two runs. */
+    private void write(long from, long to) throws IOException {
+        while (from < to) {
+            int slot = (int) (from & ringMask);
+            int n = (int) Math.min(to - from, ringMask + 1 - slot);
+            writerView.limit((slot + n) * RECORD_SIZE).position(slot * RECORD_SIZE);
+            long pos = from * RECORD_SIZE;
+            while (writerView.hasRemaining()) {
+                pos += channel.write(writerView, pos);
+            }
+            from += n;
+        }
+    }
+
+    private void checkOpen() {
+        checkFailure();
+        if (closed) {
+            throw new IllegalStateException("Journal closed");
+        }
+    }
+
+    private void checkFailure() {
+        IOException e = failure;
+        if (e != null) {
+            throw new UncheckedIOException("Journal writer failed", e);
+        }
+    }
+
+    /** CRC32C of the first 28 bytes of the record at {@code off}, moving only {@code view}'s position/limit. */
+    static int checksum(CRC32C crc, ByteBuffer view, int off) {
+        crc.reset();
+        view.limit(off + OFF_CRC).position(off);
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Forward-only reader over the valid prefix of a journal. next() stops at
+     * the end of the file or at the first bad record; {@link #torn()} tells
+     * which. Fields of the current record are read in place.
+     */
+    public static final class Reader implements AutoCloseable {
+
+        private static final int CHUNK_RECORDS = 2048;
+
+        private final FileChannel channel;
+        private final boolean ownsChannel;
+        private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final ByteBuffer view = chunk.duplicate();
+        private final CRC32C crc = new CRC32C();
+        private long count;
+        private int off;      // current record in chunk
+        private int cursor;   // next record in chunk
+        private boolean torn;
+        private boolean done;
+
+        private Reader(FileChannel channel, boolean ownsChannel) {
+            this.channel = channel;
+            this.ownsChannel = ownsChannel;
+            chunk.limit(0);
+        }
+
+        /** Moves to the next valid record; false at the end of the valid prefix. */
+        public boolean next() throws IOException {
+            if (done) {
+                return false;
+            }
+            if (cursor == chunk.limit() && !fill()) {
+                done = true;
+                return false;
+            }
+            int at = cursor;
+            if (chunk.getLong(at + OFF_SEQUENCE) != count
+                    || chunk.getInt(at + OFF_CRC) != checksum(crc, view, at)
+                    || chunk.get(at + OFF_SEARCH) != SearchCodec.VERSION) {
+                torn = done = true;
+                return false;
+            }
+            off = at;
+            cursor = at + RECORD_SIZE;
+            count++;
+            return true;
+        }
+
+        /** Reads the next chunk of whole records from the file; false if there is none. */
+        private boolean fill() throws IOException {
+            long pos = count * RECORD_SIZE;
+            chunk.clear();
+            while (chunk.hasRemaining() && channel.read(chunk, pos + chunk.position()) >= 0) {
+                // keep reading until the chunk is full or the file ends
+            }
+            int whole = chunk.position() / RECORD_SIZE * RECORD_SIZE;
+            if (chunk.position() > whole) {
+                torn = true; // partial record at the end of the file
+            }
+            chunk.limit(whole).position(0);
+            cursor = 0;
+            return whole > 0;
+        }
+
+        /** Valid records read so far; after the last next() this is the length of the valid prefix. */
+        public long count() {
+            return count;
+        }
+
+        /** True if reading stopped at a bad or partial record rather than at a clean end of file. */
+        public boolean torn() {
+            return torn;
+        }
+
+        public long sequence()           { return count - 1; }
+        public int  departureAirport()   { return SearchCodec.departureAirport(chunk, off + OFF_SEARCH); }
+        public int  destinationAirport() { return SearchCodec.destinationAirport(chunk, off + OFF_SEARCH); }
+        public int  seatingClass()       { return SearchCodec.seatingClass(chunk, off + OFF_SEARCH); }
+        public long departureEpochDay()  { return SearchCodec.departureEpochDay(chunk, off + OFF_SEARCH); }
+        public long returnEpochDay()     { return SearchCodec.returnEpochDay(chunk, off + OFF_SEARCH); }
+        public boolean emergencyRowSeating() { return SearchCodec.emergencyRowSeating(chunk, off + OFF_SEARCH); }
+        public int  adultPassengerCount()  { return SearchCodec.adultPassengerCount(chunk, off + OFF_SEARCH); }
+        public int  childPassengerCount()  { return SearchCodec.childPassengerCount(chunk, off + OFF_SEARCH); }
+        public int  infantPassengerCount() { return SearchCodec.infantPassengerCount(chunk, off + OFF_SEARCH); }
+
+        /** The current record decoded back to strings (allocates). */
+        public SearchRequest request() {
+            return SearchCodec.decode(chunk, off + OFF_SEARCH);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (ownsChannel) {
+                channel.close();
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final Path file;
+        private int ringRecords = DEFAULT_RING_RECORDS;
+        private int syncEveryRecords = 1;
+        private long syncEveryMillis;
+
+        private Builder(Path file) {
+            this.file = file;
+        }
+
+        /** Ring capacity in records (a power of two). */
+        public Builder ringRecords(int records) {
+            if (records < 2 || Integer.bitCount(records) != 1 || records > Integer.MAX_VALUE / RECORD_SIZE) {
+                throw new IllegalArgumentException("Ring records must be a power of two: " + records);
+            }
+            this.ringRecords = records;
+            return this;
+        }
+
+        /** fsync once this many records are unsynced; 0 turns the count trigger off. Default 1: every write pass. */
+        public Builder syncEveryRecords(int records) {
+            if (records < 0) {
+                throw new IllegalArgumentException("Sync count must not be negative: " + records);
+            }
+            this.syncEveryRecords = records;
+            return this;
+        }
+
+        /** fsync once this long has passed since the last one; 0 (default) turns the time trigger off. */
+        public Builder syncEveryMillis(long millis) {
+            if (millis < 0) {
+                throw new IllegalArgumentException("Sync interval must not be negative: " + millis);
+            }
+            this.syncEveryMillis = millis;
+            return this;
+        }
+
+        /** Recovers the file (creating it if missing) and starts the writer. */
+        public SearchJournal open() throws IOException {
+            FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                long sizeBefore = ch.size();
+                long records = recover(ch);
+                SearchJournal journal = new SearchJournal(this, ch, records, sizeBefore - records * RECORD_SIZE);
+                journal.writer.start();
+                return journal;
+            } catch (IOException | RuntimeException e) {
+                ch.close();
+                throw e;
+            }
+        }
+    }
+}
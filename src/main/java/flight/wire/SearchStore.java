@@ -0,0 +1,150 @@
+// src/main/java/flight/wire/SearchStore.java
+package flight.wire;
+
+import flight.SearchRequest;
+import flight.ValidatedSearch;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Append-only store of accepted searches kept off the Java heap.
+ *
+ * Each search is one {@link SearchCodec} record (16 bytes) in a direct
+ * ByteBuffer segment of {@code recordsPerSegment} records; a full segment is
+ * never copied, a new one is added. The heap only holds the segment table,
+ * so a backlog of millions of searches adds nothing for the collector to
+ * trace. Segments are freed when the store itself becomes unreachable.
+ *
+ * Appends are serialized; readers take no locks. A record is written before
+ * the size is published, so any index below {@link #size()} is complete.
+ * Fields are read in place through a {@link Cursor}, a reusable flyweight.
+ */
+public final class SearchStore {
+
+    /** Records per segment unless given otherwise: 1 MiB segments. */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 16;
+
+    private final int segmentShift;
+    private final int segmentMask;
+
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    private volatile long size;
+
+    public SearchStore() {
+        this(DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /** Store growing by {@code recordsPerSegment} records at a time (a power of two). */
+    public SearchStore(int recordsPerSegment) {
+        if (recordsPerSegment <= 0 || Integer.bitCount(recordsPerSegment) != 1
+                || recordsPerSegment > Integer.MAX_VALUE / SearchCodec.SIZE) {
+            throw new IllegalArgumentException("Records per segment must be a power of two: " + recordsPerSegment);
+        }
+        this.segmentShift = Integer.numberOfTrailingZeros(recordsPerSegment);
+        this.segmentMask  = recordsPerSegment - 1;
+    }
+
+    /** Number of records; every index below this can be read. */
+    public long size() {
+        return size;
+    }
+
+    /** Off-heap bytes reserved by the segments. */
+    public long reservedBytes() {
+        return (long) segments.length * (segmentMask + 1) * SearchCodec.SIZE;
+    }
+
+    /** Appends an accepted search and returns its index. */
+    public synchronized long append(ValidatedSearch search) {
+        SearchRequest r = search.request();
+        long index = size;
+        int seg = (int) (index >>> segmentShift);
+        ByteBuffer[] table = segments;
+        if (seg == table.length) {
+            table = Arrays.copyOf(table, seg + 1);
+            table[seg] = ByteBuffer.allocateDirect((segmentMask + 1) * SearchCodec.SIZE);
+            segments = table;
+        }
+        SearchCodec.encode(search.seatingClass(), search.departureAirport(), search.destinationAirport(),
+                search.departureEpochDay(), search.returnEpochDay(), r.emergencyRowSeating(),
+                r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount(),
+                table[seg], offset(index));
+        size = index + 1;
+        return index;
+    }
+
+    /** Request stored at {@code index}, decoded back to strings (allocates). */
+    public SearchRequest request(long index) {
+        return cursor().at(index).request();
+    }
+
+    /** New flyweight, positioned before the first record. */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private int offset(long index) {
+        return (int) (index & segmentMask) * SearchCodec.SIZE;
+    }
+
+    /**
+     * Reads one record at a time in place. Position it with {@link #at} or
+     * walk the store with {@link #next}; the accessors decode straight from
+     * the segment, so a scan allocates nothing. Not thread-safe: use one
+     * cursor per thread.
+     */
+    public final class Cursor {
+        private ByteBuffer segment;
+        private int  offset;
+        private long index = -1;
+
+        private Cursor() {
+        }
+
+        /** Moves to the record at {@code index}. */
+        public Cursor at(long index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            moveTo(index);
+            return this;
+        }
+
+        /** Advances to the next record; false when there are no more. */
+        public boolean next() {
+            long n = index + 1;
+            if (n >= size) {
+                return false;
+            }
+            moveTo(n);
+            return true;
+        }
+
+        public long index() {
+            return index;
+        }
+
+        public int     departureAirport()     { return SearchCodec.departureAirport(segment, offset); }
+        public int     destinationAirport()   { return SearchCodec.destinationAirport(segment, offset); }
+        public int     seatingClass()         { return SearchCodec.seatingClass(segment, offset); }
+        public boolean emergencyRowSeating()  { return SearchCodec.emergencyRowSeating(segment, offset); }
+        public long    departureEpochDay()    { return SearchCodec.departureEpochDay(segment, offset); }
+        public long    returnEpochDay()       { return SearchCodec.returnEpochDay(segment, offset); }
+        public long    tripDays()             { return returnEpochDay() - departureEpochDay(); }
+        public int     adultPassengerCount()  { return SearchCodec.adultPassengerCount(segment, offset); }
+        public int     childPassengerCount()  { return SearchCodec.childPassengerCount(segment, offset); }
+        public int     infantPassengerCount() { return SearchCodec.infantPassengerCount(segment, offset); }
+
+        /** The current record as a SearchRequest (allocates). */
+        public SearchRequest request() {
+            return SearchCodec.decode(segment, offset);
+        }
+
+        private void moveTo(long i) {
+            segment = segments[(int) (i >>> segmentShift)];
+            offset  = SearchStore.this.offset(i);
+            index   = i;
+        }
+    }
+}
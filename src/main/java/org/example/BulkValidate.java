@@ -0,0 +1,55 @@
+// src/main/java/org/example/BulkValidate.java
+package org.example;
+
+import flight.ValidationOutcome;
+import flight.bulk.BulkResult;
+import flight.bulk.BulkValidator;
+import flight.bulk.LogFormat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Replays a CSV or JSON Lines search log through the runFlightSearch rules.
+ *
+ * Usage: BulkValidate <file> [--format csv|jsonl] [--threads N]
+ */
+public class BulkValidate {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BulkValidate <file> [--format csv|jsonl] [--threads N]");
+            System.exit(2);
+        }
+
+        Path file = Paths.get(args[0]);
+        LogFormat format = LogFormat.forFileName(file.getFileName().toString());
+        int threads = 1;
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--format":  format = LogFormat.valueOf(args[i + 1].toUpperCase()); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                default:
+                    System.err.println("Unknown option " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        long t0 = System.nanoTime();
+        BulkResult result = BulkValidator.validateFile(file, format, threads);
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        long rows = result.rows();
+        System.out.printf("File:      %s (%,d bytes, %s, %d thread(s))%n", file, Files.size(file), format, threads);
+        System.out.printf("Rows:      %,d in %.3f s (%,.0f rows/s)%n", rows, seconds, rows / seconds);
+        System.out.printf("Accepted:  %,d%n", result.accepted());
+        System.out.printf("Rejected:  %,d%n", result.rejected());
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            if (!outcome.isAccepted() && result.count(outcome) > 0) {
+                System.out.printf("  %-24s %,d%n", outcome, result.count(outcome));
+            }
+        }
+        System.out.printf("Malformed: %,d%n", result.malformed());
+    }
+}
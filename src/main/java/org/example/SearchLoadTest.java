@@ -0,0 +1,100 @@
+// src/main/java/org/example/SearchLoadTest.java
+package org.example;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load-test harness for the /search endpoint: keeps a fixed number of requests
+ * in flight and reports requests per second and p50/p99/p99.9 latency.
+ *
+ * Usage: SearchLoadTest [baseUrl] [concurrency] [requests]
+ *        (defaults http://localhost:8080, 10000, 500000)
+ * At 10k concurrency raise the open-file limit first (ulimit -n 65536).
+ */
+public class SearchLoadTest {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh"};
+    private static final String[] CLASSES  = {"economy", "premium+economy", "business", "first"};
+
+    public static void main(String[] args) throws Exception {
+        String base     = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int requests    = args.length > 2 ? Integer.parseInt(args[2]) : 500_000;
+
+        URI[] uris = sampleUris(base, 4096);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // Warm up server and client JIT with a short run at low concurrency
+        run(client, uris, Math.min(concurrency, 64), Math.min(requests, 20_000));
+
+        long[] latencies = new long[requests];
+        AtomicLong errors = new AtomicLong();
+        long t0 = System.nanoTime();
+        run(client, uris, concurrency, requests, latencies, errors);
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("Requests:    %,d at concurrency %,d (%,d errors)%n", requests, concurrency, errors.get());
+        System.out.printf("Throughput:  %,.0f req/s%n", requests / seconds);
+        System.out.printf("Latency p50: %.3f ms%n", percentile(latencies, 0.50) / 1e6);
+        System.out.printf("Latency p99: %.3f ms%n", percentile(latencies, 0.99) / 1e6);
+        System.out.printf("Latency p99.9: %.3f ms%n", percentile(latencies, 0.999) / 1e6);
+    }
+
+    private static void run(HttpClient client, URI[] uris, int concurrency, int requests) throws InterruptedException {
+        run(client, uris, concurrency, requests, new long[requests], new AtomicLong());
+    }
+
+    private static void run(HttpClient client, URI[] uris, int concurrency, int requests,
+                            long[] latencies, AtomicLong errors) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            final int n = i;
+            final long start = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(uris[i % uris.length]).GET().build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((resp, ex) -> {
+                latencies[n] = System.nanoTime() - start;
+                if (ex != null || resp.statusCode() != 200) errors.incrementAndGet();
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private static URI[] sampleUris(String base, int n) {
+        Random rnd = new Random(1);
+        LocalDate today = LocalDate.now();
+        URI[] out = new URI[n];
+        for (int i = 0; i < n; i++) {
+            int dep = rnd.nextInt(100) < 3 ? -1 : rnd.nextInt(300);
+            out[i] = URI.create(base + "/search?departureDate=" + today.plusDays(dep).format(DMY)
+                    + "&departureAirportCode=" + AIRPORTS[rnd.nextInt(AIRPORTS.length)]
+                    + "&emergencyRowSeating=" + (rnd.nextInt(20) == 0)
+                    + "&returnDate=" + today.plusDays(dep + rnd.nextInt(20)).format(DMY)
+                    + "&destinationAirportCode=" + AIRPORTS[rnd.nextInt(AIRPORTS.length)]
+                    + "&seatingClass=" + CLASSES[rnd.nextInt(CLASSES.length)]
+                    + "&adultPassengerCount=" + (1 + rnd.nextInt(3))
+                    + "&childPassengerCount=" + rnd.nextInt(3)
+                    + "&infantPassengerCount=" + rnd.nextInt(2));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/org/example/SearchServerMain.java
+package org.example;
+
+import flight.FlightSearchValidator;
+import flight.http.SearchServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Runs the search-validation endpoint on localhost.
+ *
+ * Usage: SearchServerMain [port]   (default 8080)
+ * Try:   curl 'http://localhost:8080/search?departureDate=01/12/2030&departureAirportCode=mel
+ *              &emergencyRowSeating=false&returnDate=15/12/2030&destinationAirportCode=pvg
+ *              &seatingClass=economy&adultPassengerCount=2&childPassengerCount=2&infantPassengerCount=0'
+ */
+public class SearchServerMain {
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        SearchServer server = SearchServer.start(new InetSocketAddress("localhost", port), new FlightSearchValidator());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        System.out.println("Listening on http://localhost:" + server.port() + "/search");
+    }
+}
@@ -0,0 +1,59 @@
+// src/test/java/flight/AirportSeatingClassTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - perfect-hash lookups return the enum ordinal for every allowed code
+ *  - anything else (case, length, near misses, null) is UNKNOWN
+ */
+class AirportSeatingClassTest {
+
+    @Test
+    void testEveryAirportCodeRoundTrips() {
+        assertEquals(Airport.COUNT, Airport.values().length);
+        for (Airport a : Airport.values()) {
+            assertEquals(a.ordinal(), Airport.ordinalOf(a.code()));
+            assertSame(a, Airport.ofOrdinal(a.ordinal()));
+        }
+    }
+
+    @Test
+    void testUnknownAirportCodes() {
+        String[] inputs = {null, "", "me", "mell", "MEL", "Mel", "xxx", "sye", "mle", "pvh", "dho", "syd "};
+        for (String s : inputs) {
+            assertEquals(FlightRules.UNKNOWN, Airport.ordinalOf(s), String.valueOf(s));
+        }
+        // every other three-letter lowercase code
+        for (char a = 'a'; a <= 'z'; a++) {
+            for (char b = 'a'; b <= 'z'; b++) {
+                for (char c = 'a'; c <= 'z'; c++) {
+                    String code = "" + a + b + c;
+                    boolean allowed = code.matches("syd|mel|lax|cdg|del|pvg|doh");
+                    assertEquals(allowed, Airport.ordinalOf(code) != FlightRules.UNKNOWN, code);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEverySeatingClassRoundTrips() {
+        assertEquals(SeatingClass.COUNT, SeatingClass.values().length);
+        for (SeatingClass c : SeatingClass.values()) {
+            assertEquals(c.ordinal(), SeatingClass.ordinalOf(c.code()));
+            assertSame(c, SeatingClass.ofOrdinal(c.ordinal()));
+        }
+    }
+
+    @Test
+    void testUnknownSeatingClasses() {
+        String[] inputs = {null, "", "econom", "economyy", "Economy", "premium_economy", "premium economx",
+                "businesS", "firsT", "first class", "premium economy and more"};
+        for (String s : inputs) {
+            assertEquals(FlightRules.UNKNOWN, SeatingClass.ordinalOf(s), String.valueOf(s));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+// src/test/java/flight/CalendarSearchTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - every cell equals FlightRules.check for its pair of dates, for random requests around "today"
+ *  - matrix shape, dates and rendering of a ±1 day calendar
+ *  - failures before the dates fill the whole matrix; flex out of range is rejected
+ */
+class CalendarSearchTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh", "xxx"};
+    private static final String[] CLASSES  = {"economy", "premium economy", "business", "first", "econ"};
+
+    private final CalendarSearch calendar = new CalendarSearch(CLOCK);
+
+    private static String d(int daysFromToday) {
+        return TODAY.plusDays(daysFromToday).format(DMY);
+    }
+
+    @Test
+    void testEveryCellMatchesRules() {
+        Random rnd = new Random(20L);
+        long today = TODAY.toEpochDay();
+        for (int n = 0; n < 2_000; n++) {
+            int dep = rnd.nextInt(20) - 8;
+            SearchRequest r = new SearchRequest(rnd.nextInt(30) == 0 ? "31/02/2030" : d(dep),
+                    AIRPORTS[rnd.nextInt(AIRPORTS.length)], rnd.nextInt(6) == 0,
+                    d(dep + rnd.nextInt(12) - 3), AIRPORTS[rnd.nextInt(AIRPORTS.length)],
+                    CLASSES[rnd.nextInt(CLASSES.length)], rnd.nextInt(4), rnd.nextInt(3), rnd.nextInt(3));
+            int depFlex = rnd.nextInt(8), retFlex = rnd.nextInt(8);
+            CalendarMatrix m = calendar.search(r, depFlex, retFlex);
+            assertEquals(2 * depFlex + 1, m.departureDays());
+            assertEquals(2 * retFlex + 1, m.returnDays());
+            for (int i = 0; i < m.departureDays(); i++) {
+                for (int j = 0; j < m.returnDays(); j++) {
+                    ValidationOutcome expected = FlightRules.check(
+                            FlightRules.seatingClassCode(r.seatingClass()),
+                            FlightRules.airportCode(r.departureAirportCode()),
+                            FlightRules.airportCode(r.destinationAirportCode()),
+                            shifted(r.departureDate(), i - depFlex), shifted(r.returnDate(), j - retFlex),
+                            today, r.emergencyRowSeating(),
+                            r.adultPassengerCount(), r.childPassengerCount(), r.infantPassengerCount());
+                    int row = i, col = j;
+                    assertEquals(expected, m.outcome(i, j), () -> r + " cell " + row + "," + col);
+                }
+            }
+        }
+    }
+
+    private static long shifted(String dmy, int days) {
+        long day = DmyDateParser.parseEpochDay(dmy);
+        return day == DmyDateParser.INVALID ? day : day + days;
+    }
+
+    @Test
+    void testSmallCalendar() {
+        // Departure 16..18/01, return 16..18/01: returns before departure below the diagonal
+        SearchRequest r = new SearchRequest(d(2), "mel", false, d(2), "pvg", "economy", 1, 0, 0);
+        CalendarMatrix m = calendar.search(r, 1);
+        assertEquals(TODAY.plusDays(1).toEpochDay(), m.departureEpochDay(0));
+        assertEquals(TODAY.plusDays(3).toEpochDay(), m.returnEpochDay(2));
+        assertEquals(6, m.acceptedCount());
+        assertEquals(ValidationOutcome.RETURN_BEFORE_DEPARTURE, m.outcome(2, 0));
+        assertTrue(m.isAccepted(0, 0));
+        assertEquals("2030-01-16 +++\n2030-01-17 .++\n2030-01-18 ..+\n", m.toString());
+        assertEquals(9, m.reasons().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.outcome(3, 0));
+    }
+
+    @Test
+    void testWholeMatrixFailures() {
+        CalendarMatrix sameAirport = calendar.search(
+                new SearchRequest(d(2), "mel", false, d(5), "mel", "economy", 1, 0, 0), 3);
+        CalendarMatrix badDate = calendar.search(
+                new SearchRequest("2030-01-17", "mel", false, d(5), "pvg", "economy", 1, 0, 0), 3);
+        for (int i = 0; i < 7; i++) {
+            for (int j = 0; j < 7; j++) {
+                assertEquals(ValidationOutcome.SAME_AIRPORT, sameAirport.outcome(i, j));
+                assertEquals(ValidationOutcome.INVALID_DATE, badDate.outcome(i, j));
+            }
+        }
+        SearchRequest ok = new SearchRequest(d(2), "mel", false, d(5), "pvg", "economy", 1, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> calendar.search(ok, -1));
+        assertThrows(IllegalArgumentException.class, () -> calendar.search(ok, 0, CalendarSearch.MAX_FLEX_DAYS + 1));
+    }
+}
@@ -0,0 +1,93 @@
+// src/test/java/flight/DmyDateParserTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential tests: DmyDateParser must accept/reject exactly like the
+ * STRICT dd/MM/uuuu LocalDate.parse path it replaces, and agree on the date.
+ */
+class DmyDateParserTest {
+
+    private static final DateTimeFormatter STRICT_DMY =
+            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private static long reference(String dmy) {
+        try {
+            return LocalDate.parse(dmy, STRICT_DMY).toEpochDay();
+        } catch (DateTimeParseException | NullPointerException ex) {
+            return DmyDateParser.INVALID;
+        }
+    }
+
+    private static void assertSameAsReference(String dmy) {
+        assertEquals(reference(dmy), DmyDateParser.parseEpochDay(dmy), () -> "input: " + dmy);
+    }
+
+    @Test
+    void testEveryDateFrom1900To2200() {
+        LocalDate end = LocalDate.of(2200, 12, 31);
+        for (LocalDate d = LocalDate.of(1900, 1, 1); !d.isAfter(end); d = d.plusDays(1)) {
+            String s = d.format(STRICT_DMY);
+            assertEquals(d.toEpochDay(), DmyDateParser.parseEpochDay(s), s);
+        }
+    }
+
+    @Test
+    void testEveryDayMonthCombination() {
+        // Covers 00, 29/02 in leap and non-leap years, 31 in 30-day months, 13+ months
+        int[] years = {1900, 2000, 2023, 2024, 2100, 2400, 0, 9999};
+        for (int year : years) {
+            for (int dd = 0; dd < 100; dd++) {
+                for (int mm = 0; mm < 100; mm++) {
+                    assertSameAsReference(String.format("%02d/%02d/%04d", dd, mm, year));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMalformedStrings() {
+        String[] inputs = {
+                null, "", "1/1/2025", "01/1/2025", "01/01/25", "01-01-2025", "01.01.2025",
+                " 01/01/2025", "01/01/2025 ", "01/01/20a5", "0a/01/2025", "01/0b/2025",
+                "29/02/2026", "29/02/2024", "31/04/2025", "00/01/2025", "01/00/2025", "01/13/2025",
+                "+1/01/2025", "01/+1/2025", "-1/01/2025",
+                "01/01/+202", "01/01/-202", "01/01/+2025", "01/01/-2025", "01/01/-0000", "01/01/-00000",
+                "01/01/12025", "01/01/+12025", "01/01/-12025", "01/01/+0002025", "29/02/+00002024",
+                "01/01/+999999999", "01/01/-999999999", "01/01/+1000000000", "01/01/-1000000000",
+                "01/01/+0000000000000002025", "01/01/+00000000000000002025", "01/01/+9999999999999999999",
+                "01/01/2025/", "01/01/2025\n", "\u0661\u0661/01/2025", "\uFF10\uFF11/01/2025",
+                "01/01/++2025", "01/01/+-2025", "01/01/ 2025", "01/01/20 25",
+        };
+        for (String s : inputs) {
+            assertSameAsReference(s);
+        }
+    }
+
+    @Test
+    void testRandomStringsOverDateAlphabet() {
+        Random rnd = new Random(20250101L);
+        char[] alphabet = "0123456789/+-".toCharArray();
+        StringBuilder sb = new StringBuilder();
+        for (int n = 0; n < 200_000; n++) {
+            sb.setLength(0);
+            int len = 8 + rnd.nextInt(10);
+            for (int i = 0; i < len; i++) sb.append(alphabet[rnd.nextInt(alphabet.length)]);
+            // bias towards the dd/MM/ prefix so the year rules get exercised
+            if (rnd.nextBoolean() && len > 6) {
+                sb.setCharAt(2, '/');
+                sb.setCharAt(5, '/');
+            }
+            assertSameAsReference(sb.toString());
+        }
+    }
+}
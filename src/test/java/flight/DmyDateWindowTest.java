@@ -0,0 +1,78 @@
+// src/test/java/flight/DmyDateWindowTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - every date in and around the window parses exactly like DmyDateParser
+ *  - malformed and random 10-char strings fall back with the same result
+ *  - moving "today" rolls the window (including years 0000 and 9999/10000 at the edges)
+ */
+class DmyDateWindowTest {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static void assertSameAsParser(DmyDateWindow window, String dmy, long today) {
+        assertEquals(DmyDateParser.parseEpochDay(dmy), window.parseEpochDay(dmy, today), () -> "input: " + dmy);
+    }
+
+    @Test
+    void testDatesInAndAroundWindow() {
+        DmyDateWindow window = new DmyDateWindow(DmyDateWindow.DEFAULT_DAYS);
+        LocalDate today = LocalDate.of(2027, 12, 20);
+        for (LocalDate d = today.minusDays(30); d.isBefore(today.plusDays(500)); d = d.plusDays(1)) {
+            String s = d.format(DMY);
+            assertEquals(d.toEpochDay(), window.parseEpochDay(s, today.toEpochDay()), s);
+        }
+    }
+
+    @Test
+    void testMalformedAndRandomStrings() {
+        DmyDateWindow window = new DmyDateWindow(60);
+        long today = LocalDate.of(2028, 2, 1).toEpochDay();
+        String[] inputs = {null, "", "29/02/2028", "30/02/2028", "31/04/2028", "00/02/2028", "01/13/2028",
+                "1/02/2028", "01-02-2028", "01/02/+2028", "01/02/02028", "0a/02/2028", "01/02/2028 ",
+                "\uFF10\uFF11/02/2028"};
+        for (String s : inputs) {
+            assertSameAsParser(window, s, today);
+        }
+
+        Random rnd = new Random(7L);
+        char[] alphabet = "0123456789/".toCharArray();
+        char[] buf = new char[10];
+        for (int n = 0; n < 100_000; n++) {
+            for (int i = 0; i < buf.length; i++) buf[i] = alphabet[rnd.nextInt(alphabet.length)];
+            buf[2] = '/';
+            buf[5] = '/';
+            buf[6] = '2';
+            buf[7] = '0';
+            assertSameAsParser(window, new String(buf), today);
+        }
+    }
+
+    @Test
+    void testRollsWithToday() {
+        DmyDateWindow window = new DmyDateWindow(10);
+        LocalDate day = LocalDate.of(2030, 6, 30);
+        for (int i = 0; i < 40; i++, day = day.plusDays(1)) {
+            String s = day.plusDays(5).format(DMY);
+            assertEquals(day.plusDays(5).toEpochDay(), window.parseEpochDay(s, day.toEpochDay()), s);
+        }
+
+        LocalDate last = LocalDate.of(9999, 12, 25);
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay(), window.parseEpochDay("31/12/9999", last.toEpochDay()));
+        // year 10000 has no 10-char form, so the table must not wrap it to 0000
+        assertEquals(LocalDate.of(0, 1, 1).toEpochDay(), window.parseEpochDay("01/01/0000", last.toEpochDay()));
+        // a horizon starting in year -1 only tables year 0000 onwards
+        long yearZero = LocalDate.of(0, 1, 1).toEpochDay();
+        assertEquals(yearZero + 3, window.parseEpochDay("04/01/0000", yearZero));
+        assertThrows(IllegalArgumentException.class, () -> new DmyDateWindow(-1));
+    }
+}
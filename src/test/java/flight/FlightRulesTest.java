@@ -0,0 +1,49 @@
+// src/test/java/flight/FlightRulesTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - the passenger-mix table agrees with the branchy rules for every adults/children/infants/class/emergency cell
+ *  - counts outside the table fall back to the rules
+ */
+class FlightRulesTest {
+
+    @Test
+    void testPassengerTableMatchesRulesExhaustively() {
+        int accepted = 0;
+        for (int a = 0; a < 10; a++) {
+            for (int c = 0; c < 10; c++) {
+                for (int i = 0; i < 10; i++) {
+                    for (int cls = 0; cls < SeatingClass.COUNT; cls++) {
+                        for (boolean em : new boolean[]{false, true}) {
+                            ValidationOutcome expected = FlightRules.checkPassengersBranchy(cls, em, a, c, i);
+                            String cell = a + "/" + c + "/" + i + " class " + cls + " emergency " + em;
+                            assertEquals(expected, FlightRules.checkPassengers(cls, em, a, c, i), cell);
+                            assertEquals(expected.isAccepted(), FlightRules.passengerMixAllowed(cls, em, a, c, i), cell);
+                            if (expected.isAccepted()) accepted++;
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(accepted > 0 && accepted < 8000, "table should hold both outcomes");
+    }
+
+    @Test
+    void testOutOfTableCountsUseRules() {
+        int[][] mixes = {{10, 0, 0}, {-1, 2, 0}, {1, -1, 1}, {3, 0, 12}, {Integer.MIN_VALUE, 0, 1}};
+        for (int[] m : mixes) {
+            for (int cls = 0; cls < SeatingClass.COUNT; cls++) {
+                assertEquals(FlightRules.checkPassengersBranchy(cls, false, m[0], m[1], m[2]),
+                        FlightRules.checkPassengers(cls, false, m[0], m[1], m[2]));
+                assertEquals(FlightRules.checkPassengersBranchy(cls, true, m[0], m[1], m[2]).isAccepted(),
+                        FlightRules.passengerMixAllowed(cls, true, m[0], m[1], m[2]));
+            }
+        }
+        assertEquals(ValidationOutcome.PASSENGER_TOTAL, FlightRules.checkPassengers(0, false, 10, 0, 0));
+    }
+}
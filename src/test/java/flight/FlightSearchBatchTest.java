@@ -0,0 +1,146 @@
+// src/test/java/flight/FlightSearchBatchTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - runFlightSearchBatch agrees row by row with runFlightSearch
+ *  - reason codes for each rejected condition
+ *  - batch sizes that are not a multiple of the internal chunk
+ *  - batches for providers on different days, interleaved, each count from their own today
+ */
+class FlightSearchBatchTest {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh", "xxx", null};
+    private static final String[] CLASSES  = {"economy", "premium economy", "business", "first", "econom", null};
+
+    private String d(int daysFromToday) {
+        return LocalDate.now().plusDays(daysFromToday).format(DMY);
+    }
+
+    private SearchBatch randomBatch(int n, long seed) {
+        Random rnd = new Random(seed);
+        String[] dep = new String[n], from = new String[n], ret = new String[n], to = new String[n], cls = new String[n];
+        boolean[] emergency = new boolean[n];
+        int[] adults = new int[n], children = new int[n], infants = new int[n];
+        for (int i = 0; i < n; i++) {
+            int depOffset = rnd.nextInt(12) - 2;
+            dep[i]       = rnd.nextInt(50) == 0 ? "29/02/2026" : d(depOffset);
+            ret[i]       = d(depOffset + rnd.nextInt(8) - 2);
+            from[i]      = AIRPORTS[rnd.nextInt(AIRPORTS.length)];
+            to[i]        = AIRPORTS[rnd.nextInt(AIRPORTS.length)];
+            cls[i]       = CLASSES[rnd.nextInt(CLASSES.length)];
+            emergency[i] = rnd.nextInt(4) == 0;
+            adults[i]    = rnd.nextInt(6);
+            children[i]  = rnd.nextInt(5);
+            infants[i]   = rnd.nextInt(4);
+        }
+        return new SearchBatch(dep, from, emergency, ret, to, cls, adults, children, infants);
+    }
+
+    @Test
+    void testBatchMatchesSingleRequestPerRow() {
+        int n = 5_000; // not a multiple of the chunk size
+        SearchBatch batch = randomBatch(n, 42L);
+        boolean[] accepted = new boolean[n];
+        byte[] reasons = new byte[n];
+
+        int count = FlightSearch.runFlightSearchBatch(batch, accepted, reasons);
+
+        int expectedCount = 0;
+        for (int i = 0; i < n; i++) {
+            boolean single = new FlightSearch().runFlightSearch(
+                    batch.departureDates[i], batch.departureAirportCodes[i], batch.emergencyRowSeating[i],
+                    batch.returnDates[i], batch.destinationAirportCodes[i], batch.seatingClasses[i],
+                    batch.adultPassengerCounts[i], batch.childPassengerCounts[i], batch.infantPassengerCounts[i]);
+            assertEquals(single, accepted[i], "row " + i);
+            assertEquals(single, reasons[i] == ValidationOutcome.ACCEPTED.code(), "row " + i);
+            if (single) expectedCount++;
+        }
+        assertEquals(expectedCount, count);
+        assertTrue(count > 0 && count < n, "random mix should contain both outcomes");
+    }
+
+    @Test
+    void testReasonCodes() {
+        SearchBatch batch = new SearchBatch(
+                new String[]{d(3), d(3), d(3), "29/02/2026", d(-1), d(10), d(3), d(3), d(3), d(3), d(3)},
+                new String[]{"syd", "mel", "xxx", "mel", "mel", "mel", "mel", "mel", "mel", "mel", "mel"},
+                new boolean[]{false, false, false, false, false, false, false, true, false, false, false},
+                new String[]{d(10), d(10), d(10), d(10), d(5), d(5), d(10), d(10), d(10), d(10), d(10)},
+                new String[]{"cdg", "pvg", "pvg", "pvg", "pvg", "pvg", "pvg", "pvg", "pvg", "pvg", "mel"},
+                new String[]{"economy", "econom", "economy", "economy", "economy", "economy", "economy",
+                        "business", "first", "business", "economy"},
+                new int[]{1, 1, 1, 1, 1, 1, 9, 1, 1, 1, 1},
+                new int[]{0, 0, 0, 0, 0, 0, 1, 0, 1, 0, 0},
+                new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0});
+        boolean[] accepted = new boolean[batch.size()];
+        byte[] reasons = new byte[batch.size()];
+
+        assertEquals(1, FlightSearch.runFlightSearchBatch(batch, accepted, reasons));
+
+        ValidationOutcome[] expected = {
+                ValidationOutcome.ACCEPTED, ValidationOutcome.INVALID_CLASS, ValidationOutcome.INVALID_AIRPORT,
+                ValidationOutcome.INVALID_DATE, ValidationOutcome.DEPARTURE_IN_PAST,
+                ValidationOutcome.RETURN_BEFORE_DEPARTURE, ValidationOutcome.PASSENGER_TOTAL,
+                ValidationOutcome.EMERGENCY_ROW_CLASS, ValidationOutcome.CHILD_IN_FIRST,
+                ValidationOutcome.INFANT_IN_BUSINESS, ValidationOutcome.SAME_AIRPORT,
+        };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], ValidationOutcome.ofCode(reasons[i]), "row " + i);
+        }
+    }
+
+    @Test
+    void testInterleavedProvidersKeepTheirOwnDates() {
+        // Two pinned days a year and a half apart, batches alternating between them
+        LocalDate[] days = {LocalDate.of(2030, 1, 15), LocalDate.of(2031, 6, 1)};
+        TodayProvider[] providers = new TodayProvider[days.length];
+        for (int p = 0; p < days.length; p++) {
+            providers[p] = new TodayProvider(Clock.fixed(days[p].atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+        }
+        assertNotSame(providers[0].dateWindow(), providers[1].dateWindow());
+
+        for (int round = 0; round < 4; round++) {
+            int p = round % 2;
+            LocalDate today = days[p];
+            int n = 300;
+            String[] dep = new String[n], ret = new String[n], from = new String[n], to = new String[n], cls = new String[n];
+            int[] adults = new int[n];
+            for (int i = 0; i < n; i++) {
+                dep[i] = today.plusDays(i % 40 - 2).format(DMY);
+                ret[i] = today.plusDays(i % 40 + 3).format(DMY);
+                from[i] = "mel";
+                to[i] = "pvg";
+                cls[i] = "economy";
+                adults[i] = 1;
+            }
+            SearchBatch batch = new SearchBatch(dep, from, new boolean[n], ret, to, cls, adults, new int[n], new int[n]);
+            boolean[] accepted = new boolean[n];
+            byte[] reasons = new byte[n];
+            FlightSearch.runFlightSearchBatch(batch, accepted, reasons, providers[p]);
+            for (int i = 0; i < n; i++) {
+                // Only the two days before today are in the past
+                assertEquals(i % 40 >= 2, accepted[i], "round " + round + " row " + i);
+            }
+        }
+    }
+
+    @Test
+    void testMismatchedColumnsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchBatch(
+                new String[1], new String[1], new boolean[1], new String[1], new String[1], new String[1],
+                new int[1], new int[1], new int[2]));
+    }
+}
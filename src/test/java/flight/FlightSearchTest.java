@@ -3,7 +3,10 @@ package flight;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +45,8 @@ class FlightSearchTest {
         assertEquals(0, fs.getAdultPassengerCount());
         assertEquals(0, fs.getChildPassengerCount());
         assertEquals(0, fs.getInfantPassengerCount());
+        assertEquals(DmyDateParser.INVALID, fs.getDepartureEpochDay());
+        assertEquals(DmyDateParser.INVALID, fs.getTripDays());
     }
 
     @Test
@@ -61,6 +66,9 @@ class FlightSearchTest {
         assertEquals(1, fs.getAdultPassengerCount());
         assertEquals(0, fs.getChildPassengerCount());
         assertEquals(0, fs.getInfantPassengerCount());
+        assertEquals(LocalDate.now().plusDays(3).toEpochDay(), fs.getDepartureEpochDay());
+        assertEquals(LocalDate.now().plusDays(10).toEpochDay(), fs.getReturnEpochDay());
+        assertEquals(7, fs.getTripDays());
     }
 
     @Test
@@ -186,4 +194,74 @@ class FlightSearchTest {
         FlightSearch fs = new FlightSearch();
         assertTrue(runValid(fs), "Baseline valid set should pass");
     }
+
+    @Test
+    void testOutcomeReportsFirstFailingCondition() {
+        FlightSearch fs = new FlightSearch();
+        assertEquals(ValidationOutcome.CHILD_RATIO,
+                fs.runFlightSearchOutcome(d(3), "mel", false, d(10), "pvg", "economy", 1, 3, 0));
+        assertUnchanged(fs);
+
+        assertEquals(ValidationOutcome.INFANT_IN_EMERGENCY_ROW,
+                fs.runFlightSearchOutcome(d(3), "mel", true, d(7), "pvg", "economy", 1, 0, 1));
+        assertUnchanged(fs);
+
+        assertEquals(ValidationOutcome.ACCEPTED,
+                fs.runFlightSearchOutcome(d(3), "mel", false, d(10), "pvg", "economy", 1, 2, 0));
+        assertEquals("mel", fs.getDepartureAirportCode());
+        assertEquals(2, fs.getChildPassengerCount());
+    }
+
+    @Test
+    void testOutcomesFeedValidatorCounters() {
+        FlightSearchValidator validator = new FlightSearchValidator();
+        FlightSearch fs = new FlightSearch(validator);
+
+        fs.runFlightSearch(d(3), "mel", false, d(10), "mel", "economy", 1, 0, 0);
+        fs.runFlightSearch(d(3), "mel", false, d(10), "pvg", "econom", 1, 0, 0);
+        fs.runFlightSearch(d(3), "mel", false, d(10), "pvg", "econom", 1, 0, 0);
+        runValid(fs);
+
+        OutcomeCounters counters = validator.counters();
+        assertEquals(1, counters.count(ValidationOutcome.SAME_AIRPORT));
+        assertEquals(2, counters.count(ValidationOutcome.INVALID_CLASS));
+        assertEquals(1, counters.count(ValidationOutcome.ACCEPTED));
+        assertEquals(3, counters.rejected());
+    }
+
+    @Test
+    void testPreDecodedOverloadMatchesStringOverload() {
+        FlightSearch fs = new FlightSearch();
+        boolean ok = fs.runFlightSearch(d(3), Airport.SYD, false, d(10), Airport.CDG, SeatingClass.PREMIUM_ECONOMY,
+                2, 1, 1);
+        assertTrue(ok);
+        assertEquals("syd", fs.getDepartureAirportCode());
+        assertEquals("cdg", fs.getDestinationAirportCode());
+        assertEquals("premium economy", fs.getSeatingClass());
+
+        FlightSearch other = new FlightSearch();
+        // infants + business -> invalid, same as the String overload
+        ok = other.runFlightSearch(d(3), Airport.MEL, false, d(7), Airport.PVG, SeatingClass.BUSINESS, 1, 0, 1);
+        assertFalse(ok); assertUnchanged(other);
+
+        // missing airport -> invalid
+        ok = other.runFlightSearch(d(3), Airport.MEL, false, d(7), (Airport) null, SeatingClass.ECONOMY, 1, 0, 0);
+        assertFalse(ok); assertUnchanged(other);
+    }
+
+    @Test
+    void testDepartureNotInPastWithPinnedClock() {
+        Clock pinned = Clock.fixed(Instant.parse("2025-06-15T02:00:00Z"), ZoneId.of("UTC"));
+
+        FlightSearch fs = new FlightSearch(pinned);
+        boolean ok = fs.runFlightSearch("14/06/2025", "mel", false, "20/06/2025", "pvg", "economy",
+                1, 0, 0);
+        assertFalse(ok); assertUnchanged(fs);
+
+        // departing today is allowed
+        ok = fs.runFlightSearch("15/06/2025", "mel", false, "20/06/2025", "pvg", "economy",
+                1, 0, 0);
+        assertTrue(ok);
+        assertEquals("15/06/2025", fs.getDepartureDate());
+    }
 }
@@ -0,0 +1,80 @@
+// src/test/java/flight/FlightSearchValidatorTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - validate returns the request with its decoded form when valid
+ *  - validate returns empty when invalid
+ *  - one validator instance shared across threads gives the same answers
+ */
+class FlightSearchValidatorTest {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private final FlightSearchValidator validator = new FlightSearchValidator();
+
+    private String d(int daysFromToday) {
+        return LocalDate.now().plusDays(daysFromToday).format(DMY);
+    }
+
+    @Test
+    void testValidRequestIsDecoded() {
+        SearchRequest request = new SearchRequest(d(3), "syd", false, d(10), "cdg", "economy", 1, 0, 0);
+        Optional<ValidatedSearch> result = validator.validate(request);
+
+        assertTrue(result.isPresent());
+        ValidatedSearch v = result.get();
+        assertSame(request, v.request());
+        assertEquals(FlightRules.airportCode("syd"), v.departureAirport());
+        assertEquals(FlightRules.airportCode("cdg"), v.destinationAirport());
+        assertEquals(FlightRules.seatingClassCode("economy"), v.seatingClass());
+        assertEquals(LocalDate.now().plusDays(3).toEpochDay(), v.departureEpochDay());
+        assertEquals(LocalDate.now().plusDays(10).toEpochDay(), v.returnEpochDay());
+        assertEquals(7, v.tripDays());
+    }
+
+    @Test
+    void testInvalidRequestIsEmpty() {
+        SearchRequest request = new SearchRequest(d(3), "mel", false, d(10), "mel", "economy", 1, 0, 0);
+        assertTrue(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void testSharedValidatorAcrossThreads() throws Exception {
+        SearchRequest valid   = new SearchRequest(d(5), "mel", false, d(12), "pvg", "economy", 2, 2, 0);
+        SearchRequest invalid = new SearchRequest(d(5), "mel", false, d(12), "pvg", "first", 1, 1, 0);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        if (validator.validate(valid).isEmpty() || validator.validate(invalid).isPresent()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> f : results) {
+                assertTrue(f.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+// src/test/java/flight/ParallelBatchValidatorTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - parallel results equal the single-threaded batch row by row, for several pool sizes
+ *  - per-reason counts add up and match the reasons column
+ *  - batches smaller than one leaf and empty batches
+ */
+class ParallelBatchValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final TodayProvider FIXED = new TodayProvider(
+            Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh", "xxx"};
+    private static final String[] CLASSES  = {"economy", "premium economy", "business", "first", "econom"};
+
+    private static SearchBatch randomBatch(int n, long seed) {
+        Random rnd = new Random(seed);
+        String[] dates = new String[40];
+        for (int i = 0; i < dates.length; i++) dates[i] = TODAY.plusDays(i - 5).format(DMY);
+        String[] dep = new String[n], from = new String[n], ret = new String[n], to = new String[n], cls = new String[n];
+        boolean[] emergency = new boolean[n];
+        int[] adults = new int[n], children = new int[n], infants = new int[n];
+        for (int i = 0; i < n; i++) {
+            int d = rnd.nextInt(30);
+            dep[i]       = rnd.nextInt(100) == 0 ? "31/04/2030" : dates[d];
+            ret[i]       = dates[d + rnd.nextInt(10)];
+            from[i]      = AIRPORTS[rnd.nextInt(AIRPORTS.length)];
+            to[i]        = AIRPORTS[rnd.nextInt(AIRPORTS.length)];
+            cls[i]       = CLASSES[rnd.nextInt(CLASSES.length)];
+            emergency[i] = rnd.nextInt(8) == 0;
+            adults[i]    = rnd.nextInt(5);
+            children[i]  = rnd.nextInt(4);
+            infants[i]   = rnd.nextInt(3);
+        }
+        return new SearchBatch(dep, from, emergency, ret, to, cls, adults, children, infants);
+    }
+
+    @Test
+    void testMatchesSequentialForAnyPoolSize() {
+        int n = 5 * ParallelBatchValidator.LEAF_ROWS + 777;
+        SearchBatch batch = randomBatch(n, 99L);
+        boolean[] expectedAccepted = new boolean[n];
+        byte[] expectedReasons = new byte[n];
+        int expectedCount = FlightSearch.runFlightSearchBatch(batch, expectedAccepted, expectedReasons, FIXED);
+
+        long[] tally = new long[ValidationOutcome.COUNT];
+        for (byte r : expectedReasons) tally[r]++;
+
+        for (int threads : new int[]{1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                boolean[] accepted = new boolean[n];
+                byte[] reasons = new byte[n];
+                long[] counts = new ParallelBatchValidator(pool).validate(batch, accepted, reasons, FIXED);
+
+                assertArrayEquals(expectedAccepted, accepted, "threads " + threads);
+                assertArrayEquals(expectedReasons, reasons, "threads " + threads);
+                assertArrayEquals(tally, counts, "threads " + threads);
+                assertEquals(expectedCount, counts[ValidationOutcome.ACCEPTED.code()]);
+                assertEquals(n, Arrays.stream(counts).sum());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testSmallAndEmptyBatches() {
+        ParallelBatchValidator validator = new ParallelBatchValidator();
+        SearchBatch small = randomBatch(10, 1L);
+        boolean[] accepted = new boolean[10];
+        byte[] reasons = new byte[10];
+        assertEquals(10, Arrays.stream(validator.validate(small, accepted, reasons, FIXED)).sum());
+
+        SearchBatch empty = randomBatch(0, 1L);
+        assertEquals(0, Arrays.stream(validator.validate(empty, new boolean[0], new byte[0], FIXED)).sum());
+        assertThrows(IllegalArgumentException.class,
+                () -> validator.validate(small, new boolean[9], new byte[10], FIXED));
+    }
+}
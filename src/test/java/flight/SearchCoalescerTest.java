@@ -0,0 +1,142 @@
+// src/test/java/flight/SearchCoalescerTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - identical requests arriving while a search runs share its future; other requests do not wait
+ *  - a finished search is not reused, and a failure reaches every caller that joined it
+ *  - many threads on a few hot requests get the same answers as the validator, and every call is counted once
+ */
+class SearchCoalescerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static SearchRequest request(int depDays, String to) {
+        return new SearchRequest(TODAY.plusDays(depDays).format(DMY), "mel", false,
+                TODAY.plusDays(depDays + 7).format(DMY), to, "economy", 2, 1, 0);
+    }
+
+    @Test
+    void testDuplicatesJoinTheSearchInFlight() throws Exception {
+        SearchRequest hot = request(5, "pvg");
+        SearchRequest other = request(5, "syd");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        SearchCoalescer<String> coalescer = new SearchCoalescer<>(r -> {
+            runs.incrementAndGet();
+            if (r.equals(hot)) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return r.destinationAirportCode();
+        });
+
+        ExecutorService leader = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = leader.submit(() -> coalescer.join(hot));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertEquals(1, coalescer.inFlight());
+
+            List<CompletableFuture<String>> joined = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                joined.add(coalescer.search(request(5, "pvg"))); // equal, not the same instance
+            }
+            assertSame(joined.get(0), joined.get(4));
+            assertFalse(joined.get(0).isDone());
+            assertEquals("syd", coalescer.join(other));     // runs at once, nothing to wait for
+
+            release.countDown();
+            assertEquals("pvg", first.get(5, TimeUnit.SECONDS));
+            for (CompletableFuture<String> f : joined) {
+                assertEquals("pvg", f.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            leader.shutdownNow();
+        }
+        assertEquals(2, runs.get());
+        assertEquals(2, coalescer.executed());
+        assertEquals(5, coalescer.coalesced());
+        assertEquals(0, coalescer.inFlight());
+
+        // Done means gone: the next identical request searches again
+        assertEquals("pvg", coalescer.join(hot));
+        assertEquals(3, coalescer.executed());
+    }
+
+    @Test
+    void testFailureReachesEveryCallerAndIsNotKept() {
+        AtomicInteger runs = new AtomicInteger();
+        SearchCoalescer<Integer> coalescer = new SearchCoalescer<>(r -> {
+            if (runs.incrementAndGet() == 1) {
+                throw new IllegalStateException("backend down");
+            }
+            return r.adultPassengerCount();
+        });
+        SearchRequest r = request(3, "pvg");
+        CompletableFuture<Integer> failed = coalescer.search(r);
+        assertTrue(failed.isCompletedExceptionally());
+        CompletionException ex = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(0, coalescer.inFlight());
+        assertEquals(2, coalescer.join(r));
+    }
+
+    @Test
+    void testConcurrentCallersMatchValidator() throws Exception {
+        FlightSearchValidator validator = new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters());
+        SearchCoalescer<Optional<ValidatedSearch>> coalescer = new SearchCoalescer<>(validator::validate);
+        SearchRequest[] hot = {request(2, "pvg"), request(9, "syd"), request(-1, "lax"), request(30, "mel")};
+        int threads = 4;
+        int perThread = 20_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                done.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        SearchRequest r = hot[(i * 7 + seed) % hot.length];
+                        Optional<ValidatedSearch> got = coalescer.join(r);
+                        assertEquals(validator.check(r).isAccepted(), got.isPresent());
+                        got.ifPresent(s -> assertEquals(r, s.request()));
+                    }
+                }));
+            }
+            for (Future<?> f : done) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals((long) threads * perThread, coalescer.executed() + coalescer.coalesced());
+        assertEquals(0, coalescer.inFlight());
+    }
+}
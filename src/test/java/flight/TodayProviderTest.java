@@ -0,0 +1,76 @@
+// src/test/java/flight/TodayProviderTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - fixed clock pins "today"
+ *  - the cached day refreshes when midnight passes in the clock's zone
+ *  - a clock moving backwards is handled
+ */
+class TodayProviderTest {
+
+    private static final ZoneId MELBOURNE = ZoneId.of("Australia/Melbourne");
+
+    /** Clock whose instant the test moves by hand. */
+    private static final class MutableClock extends Clock {
+        private final ZoneId zone;
+        private Instant now;
+
+        MutableClock(Instant now, ZoneId zone) {
+            this.now = now;
+            this.zone = zone;
+        }
+
+        @Override public ZoneId getZone()            { return zone; }
+        @Override public Clock withZone(ZoneId zone) { return new MutableClock(now, zone); }
+        @Override public Instant instant()           { return now; }
+    }
+
+    private static Instant at(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(MELBOURNE).toInstant();
+    }
+
+    @Test
+    void testFixedClockPinsToday() {
+        Clock fixed = Clock.fixed(at("2025-06-15T10:00:00"), MELBOURNE);
+        TodayProvider today = new TodayProvider(fixed);
+        assertEquals(LocalDate.of(2025, 6, 15).toEpochDay(), today.epochDay());
+        assertEquals(LocalDate.of(2025, 6, 15).toEpochDay(), today.epochDay());
+    }
+
+    @Test
+    void testRefreshesAtMidnightInZone() {
+        MutableClock clock = new MutableClock(at("2025-06-15T23:59:59"), MELBOURNE);
+        TodayProvider today = new TodayProvider(clock);
+        assertEquals(LocalDate.of(2025, 6, 15).toEpochDay(), today.epochDay());
+
+        clock.now = at("2025-06-16T00:00:00");
+        assertEquals(LocalDate.of(2025, 6, 16).toEpochDay(), today.epochDay());
+
+        // DST change day (first Sunday of October in Melbourne): the day is 23h long
+        clock.now = at("2025-10-05T23:30:00");
+        assertEquals(LocalDate.of(2025, 10, 5).toEpochDay(), today.epochDay());
+        clock.now = at("2025-10-06T00:00:00");
+        assertEquals(LocalDate.of(2025, 10, 6).toEpochDay(), today.epochDay());
+    }
+
+    @Test
+    void testClockMovingBackwards() {
+        MutableClock clock = new MutableClock(at("2025-06-16T08:00:00"), MELBOURNE);
+        TodayProvider today = new TodayProvider(clock);
+        assertEquals(LocalDate.of(2025, 6, 16).toEpochDay(), today.epochDay());
+
+        clock.now = at("2025-06-15T22:00:00");
+        assertEquals(LocalDate.of(2025, 6, 15).toEpochDay(), today.epochDay());
+    }
+}
@@ -0,0 +1,144 @@
+// src/test/java/flight/ValidationCacheTest.java
+package flight;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - cached outcomes agree with FlightRules, including under eviction and across threads
+ *  - a new "today" invalidates every entry (Condition 6); a call still on the
+ *    previous day bypasses the cache without clearing it
+ *  - requests that do not fit the packed key bypass the cache
+ *  - the validator counts every request whether it hit or missed
+ */
+class ValidationCacheTest {
+
+    private static final long TODAY = LocalDate.of(2030, 1, 15).toEpochDay();
+
+    /** Decoded request: class, from, to, dep, ret, emergency, adults, children, infants. */
+    private static long[] randomRequest(Random rnd) {
+        long dep = TODAY + rnd.nextInt(40) - 3;
+        return new long[]{
+                rnd.nextInt(SeatingClass.COUNT), rnd.nextInt(Airport.COUNT), rnd.nextInt(Airport.COUNT),
+                dep, dep + rnd.nextInt(10) - 2, rnd.nextInt(5) == 0 ? 1 : 0,
+                rnd.nextInt(4), rnd.nextInt(3), rnd.nextInt(3)};
+    }
+
+    private static ValidationOutcome viaCache(ValidationCache cache, long[] r, long today) {
+        return cache.check((int) r[0], (int) r[1], (int) r[2], r[3], r[4], today, r[5] == 1,
+                (int) r[6], (int) r[7], (int) r[8]);
+    }
+
+    private static ValidationOutcome viaRules(long[] r, long today) {
+        return FlightRules.check((int) r[0], (int) r[1], (int) r[2], r[3], r[4], today, r[5] == 1,
+                (int) r[6], (int) r[7], (int) r[8]);
+    }
+
+    @Test
+    void testAgreesWithRulesUnderEviction() {
+        ValidationCache cache = new ValidationCache(256);
+        Random rnd = new Random(12L);
+        for (int i = 0; i < 200_000; i++) {
+            long[] r = randomRequest(rnd);
+            assertEquals(viaRules(r, TODAY), viaCache(cache, r, TODAY), () -> Arrays.toString(r));
+        }
+        assertEquals(200_000, cache.hits() + cache.misses());
+        assertTrue(cache.hits() > 0, "repeated requests should hit");
+        assertTrue(cache.evictions() > 0, "a 256-entry cache should evict");
+    }
+
+    @Test
+    void testNewDayInvalidates() {
+        ValidationCache cache = new ValidationCache(64);
+        long[] departsToday = {SeatingClass.ECONOMY.ordinal(), Airport.MEL.ordinal(), Airport.PVG.ordinal(),
+                TODAY, TODAY + 7, 0, 1, 0, 0};
+
+        assertEquals(ValidationOutcome.ACCEPTED, viaCache(cache, departsToday, TODAY));
+        assertEquals(ValidationOutcome.ACCEPTED, viaCache(cache, departsToday, TODAY));
+        assertEquals(1, cache.hits());
+
+        assertEquals(ValidationOutcome.DEPARTURE_IN_PAST, viaCache(cache, departsToday, TODAY + 1));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.invalidations());
+
+        // Around midnight a thread may still pass yesterday: answered, but today's entries stay
+        assertEquals(ValidationOutcome.ACCEPTED, viaCache(cache, departsToday, TODAY));
+        assertEquals(ValidationOutcome.DEPARTURE_IN_PAST, viaCache(cache, departsToday, TODAY + 1));
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.invalidations());
+    }
+
+    @Test
+    void testUnpackableRequestsBypass() {
+        ValidationCache cache = new ValidationCache(64);
+        long[][] bypass = {
+                {FlightRules.UNKNOWN, 1, 5, TODAY, TODAY, 0, 1, 0, 0},
+                {0, 1, 5, DmyDateParser.INVALID, TODAY, 0, 1, 0, 0},
+                {0, 1, 5, TODAY, TODAY, 0, 16, 0, 0},
+                {0, 1, 5, TODAY, TODAY, 0, 1, -1, 0},
+                {0, 1, 5, TODAY + 200_000, TODAY + 200_001, 0, 1, 0, 0},
+                {0, 1, 5, TODAY, TODAY + 100_000, 0, 1, 0, 0},
+        };
+        for (long[] r : bypass) {
+            assertEquals(viaRules(r, TODAY), viaCache(cache, r, TODAY));
+            assertEquals(viaRules(r, TODAY), viaCache(cache, r, TODAY));
+        }
+        assertEquals(0, cache.hits() + cache.misses());
+    }
+
+    @Test
+    void testSharedCacheAcrossThreads() throws Exception {
+        ValidationCache cache = new ValidationCache(512);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long seed = t;
+                results.add(pool.submit(() -> {
+                    Random rnd = new Random(seed);
+                    int mismatches = 0;
+                    for (int i = 0; i < 50_000; i++) {
+                        long[] r = randomRequest(rnd);
+                        if (viaRules(r, TODAY) != viaCache(cache, r, TODAY)) mismatches++;
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> f : results) {
+                assertEquals(0, f.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testValidatorCountsHitsAndMisses() {
+        Clock clock = Clock.fixed(LocalDate.ofEpochDay(TODAY).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        ValidationCache cache = new ValidationCache(64);
+        FlightSearchValidator validator =
+                new FlightSearchValidator(new TodayProvider(clock), new OutcomeCounters(), cache);
+        SearchRequest request = new SearchRequest("20/01/2030", "mel", false, "27/01/2030", "pvg", "first", 1, 1, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ValidationOutcome.CHILD_IN_FIRST, validator.check(request));
+        }
+        assertSame(cache, validator.cache());
+        assertEquals(3, validator.counters().count(ValidationOutcome.CHILD_IN_FIRST));
+        assertEquals(1, cache.misses());
+        assertEquals(2, cache.hits());
+    }
+}
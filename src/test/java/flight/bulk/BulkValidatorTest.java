@@ -0,0 +1,160 @@
+// src/test/java/flight/bulk/BulkValidatorTest.java
+package flight.bulk;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - CSV and JSONL replays count exactly what the validator decides per row
+ *  - splitting into byte ranges across threads gives the same counts
+ *  - header, blank, CRLF, malformed lines and a missing final newline
+ */
+class BulkValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh", "xxx"};
+    private static final String[] CLASSES  = {"economy", "premium economy", "business", "first", "econom"};
+
+    @TempDir
+    Path dir;
+
+    private static String d(int daysFromToday) {
+        return TODAY.plusDays(daysFromToday).format(DMY);
+    }
+
+    private static List<SearchRequest> randomRequests(int n, long seed) {
+        Random rnd = new Random(seed);
+        List<SearchRequest> out = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int dep = rnd.nextInt(12) - 2;
+            out.add(new SearchRequest(rnd.nextInt(40) == 0 ? "31/04/2030" : d(dep),
+                    AIRPORTS[rnd.nextInt(AIRPORTS.length)], rnd.nextInt(4) == 0,
+                    d(dep + rnd.nextInt(8) - 2), AIRPORTS[rnd.nextInt(AIRPORTS.length)],
+                    CLASSES[rnd.nextInt(CLASSES.length)], rnd.nextInt(6) - 1, rnd.nextInt(5), rnd.nextInt(4)));
+        }
+        return out;
+    }
+
+    private static String csv(SearchRequest r) {
+        return String.join(",", r.departureDate(), r.departureAirportCode(), String.valueOf(r.emergencyRowSeating()),
+                r.returnDate(), r.destinationAirportCode(), r.seatingClass(), String.valueOf(r.adultPassengerCount()),
+                String.valueOf(r.childPassengerCount()), String.valueOf(r.infantPassengerCount()));
+    }
+
+    private static String json(SearchRequest r) {
+        return "{\"departureDate\":\"" + r.departureDate() + "\", \"departureAirportCode\":\"" + r.departureAirportCode()
+                + "\",\"emergencyRowSeating\":" + r.emergencyRowSeating() + ",\"returnDate\":\"" + r.returnDate()
+                + "\",\"destinationAirportCode\":\"" + r.destinationAirportCode() + "\",\"seatingClass\":\""
+                + r.seatingClass() + "\",\"adultPassengerCount\":" + r.adultPassengerCount()
+                + ",\"childPassengerCount\":" + r.childPassengerCount()
+                + ",\"infantPassengerCount\":" + r.infantPassengerCount() + ",\"source\":\"web\"}";
+    }
+
+    private static long[] expectedCounts(List<SearchRequest> requests) {
+        FlightSearchValidator validator = new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters());
+        for (SearchRequest r : requests) {
+            validator.check(r);
+        }
+        return validator.counters().snapshot();
+    }
+
+    private static void assertCounts(long[] expected, BulkResult result) {
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            assertEquals(expected[outcome.ordinal()], result.count(outcome), outcome.name());
+        }
+    }
+
+    @Test
+    void testCsvMatchesValidator() throws IOException {
+        List<SearchRequest> requests = randomRequests(20_000, 1L);
+        StringBuilder sb = new StringBuilder("departureDate,departureAirportCode,emergencyRowSeating,returnDate,"
+                + "destinationAirportCode,seatingClass,adults,children,infants\n");
+        for (SearchRequest r : requests) sb.append(csv(r)).append('\n');
+        Path file = dir.resolve("searches.csv");
+        Files.writeString(file, sb, StandardCharsets.US_ASCII);
+
+        long[] expected = expectedCounts(requests);
+        for (int threads : new int[]{1, 3, 8}) {
+            BulkResult result = BulkValidator.validateFile(file, LogFormat.CSV, threads, new TodayProvider(CLOCK));
+            assertCounts(expected, result);
+            assertEquals(0, result.malformed());
+            assertEquals(requests.size(), result.rows());
+        }
+    }
+
+    @Test
+    void testJsonlMatchesValidator() throws IOException {
+        List<SearchRequest> requests = randomRequests(20_000, 2L);
+        StringBuilder sb = new StringBuilder();
+        for (SearchRequest r : requests) sb.append(json(r)).append("\r\n");
+        Path file = dir.resolve("searches.jsonl");
+        Files.writeString(file, sb, StandardCharsets.US_ASCII);
+
+        assertEquals(LogFormat.JSONL, LogFormat.forFileName(file.getFileName().toString()));
+        long[] expected = expectedCounts(requests);
+        for (int threads : new int[]{1, 4}) {
+            BulkResult result = BulkValidator.validateFile(file, LogFormat.JSONL, threads, new TodayProvider(CLOCK));
+            assertCounts(expected, result);
+            assertEquals(0, result.malformed());
+        }
+    }
+
+    @Test
+    void testMalformedAndEdgeLines() throws IOException {
+        String valid = d(3) + ",syd,false," + d(10) + ",cdg,economy,1,0,0";
+        String content = valid + "\n"
+                + "\n"
+                + valid + ",extra\n"                                         // too many fields
+                + d(3) + ",syd,maybe," + d(10) + ",cdg,economy,1,0,0\n"     // bad boolean
+                + d(3) + ",syd,false," + d(10) + ",cdg,economy,one,0,0\n"   // bad count
+                + d(3) + ",syd,false," + d(10) + ",syd,economy,1,0,0\n"     // same airport
+                + valid;                                                    // no final newline
+        Path file = dir.resolve("edge.csv");
+        Files.writeString(file, content, StandardCharsets.US_ASCII);
+
+        BulkResult result = BulkValidator.validateFile(file, LogFormat.CSV, 1, new TodayProvider(CLOCK));
+        assertEquals(2, result.accepted());
+        assertEquals(1, result.count(ValidationOutcome.SAME_AIRPORT));
+        assertEquals(3, result.malformed());
+    }
+
+    @Test
+    void testJsonlNullsAndMalformed() throws IOException {
+        SearchRequest r = new SearchRequest(d(3), "syd", false, d(10), "cdg", "economy", 1, 0, 0);
+        String content = json(r) + "\n"
+                + json(r).replace("\"syd\"", "null") + "\n"                 // null airport -> INVALID_AIRPORT
+                + json(r).replace("\"adultPassengerCount\":1,", "") + "\n"  // missing key
+                + json(r).replace("\"syd\"", "\"s\\u0079d\"") + "\n"        // escapes unsupported
+                + "[1,2,3]\n";
+        Path file = dir.resolve("edge.jsonl");
+        Files.writeString(file, content, StandardCharsets.US_ASCII);
+
+        BulkResult result = BulkValidator.validateFile(file, LogFormat.JSONL, 1, new TodayProvider(CLOCK));
+        assertEquals(1, result.accepted());
+        assertEquals(1, result.count(ValidationOutcome.INVALID_AIRPORT));
+        assertEquals(3, result.malformed());
+    }
+}
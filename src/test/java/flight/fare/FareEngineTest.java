@@ -0,0 +1,161 @@
+// src/test/java/flight/fare/FareEngineTest.java
+package flight.fare;
+
+import flight.Airport;
+import flight.FlightRules;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.SeatingClass;
+import flight.TodayProvider;
+import flight.ValidatedSearch;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - round-trip party price of a validated search with child and infant multipliers
+ *  - days outside the horizon, unpriced cells and bad cells
+ *  - airport/class ordinals outside the table read as no fare, never as a neighbouring cell
+ *  - copy-on-write updates leave earlier snapshots untouched, also when a builder is reused after build();
+ *    shifting the horizon keeps overlapping fares
+ *  - readers during concurrent bulk updates always price from one whole snapshot
+ */
+class FareEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final long T = TODAY.toEpochDay();
+    private static final int MEL = Airport.MEL.ordinal();
+    private static final int PVG = Airport.PVG.ordinal();
+    private static final int ECONOMY = SeatingClass.ECONOMY.ordinal();
+
+    private static FareTable table() {
+        return FareTable.builder(T, 365)
+                .set(MEL, PVG, ECONOMY, T, T + 364, 40_000)
+                .set(PVG, MEL, ECONOMY, T, T + 364, 38_000)
+                .set(PVG, MEL, ECONOMY, T + 12, 50_000)
+                .build();
+    }
+
+    @Test
+    void testPricesValidatedSearch() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        FlightSearchValidator validator = new FlightSearchValidator(new TodayProvider(clock), new OutcomeCounters());
+        ValidatedSearch search = validator.validate(new SearchRequest(
+                "20/01/2030", "mel", false, "26/01/2030", "pvg", "economy", 2, 1, 1)).orElseThrow();
+
+        FareEngine engine = new FareEngine(table());
+        // out: 2 x 400.00 + 0.75 x 400.00 + 0.10 x 400.00; back: the same on 380.00
+        assertEquals(2 * 40_000 + 30_000 + 4_000 + 2 * 38_000 + 28_500 + 3_800, engine.price(search));
+        // the return on day 12 has its own fare
+        assertEquals(40_000 + 50_000, engine.price(MEL, PVG, ECONOMY, T + 5, T + 12, 1, 0, 0));
+    }
+
+    @Test
+    void testMissingFares() {
+        FareTable t = table();
+        assertEquals(FareTable.NO_FARE, t.fare(MEL, PVG, ECONOMY, T - 1));
+        assertEquals(FareTable.NO_FARE, t.fare(MEL, PVG, ECONOMY, T + 365));
+        assertEquals(FareTable.NO_FARE, t.fare(MEL, PVG, SeatingClass.FIRST.ordinal(), T + 3));
+        assertEquals(FareTable.NO_FARE, t.roundTripFare(MEL, PVG, ECONOMY, T + 3, T + 400, 1, 0, 0));
+        assertEquals(FareTable.NO_FARE,
+                new FareEngine(t).price(MEL, Airport.SYD.ordinal(), ECONOMY, T + 3, T + 5, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> t.toBuilder().set(MEL, MEL, ECONOMY, T, 100));
+        assertThrows(IllegalArgumentException.class, () -> t.toBuilder().set(MEL, PVG, 4, T, 100));
+        assertThrows(IllegalArgumentException.class, () -> t.toBuilder().set(MEL, PVG, ECONOMY, T, -5));
+        assertThrows(IllegalArgumentException.class, () -> FareTable.builder(T, 0));
+    }
+
+    @Test
+    void testOrdinalsOutsideTheTableHaveNoFare() {
+        // Every real cell priced, so reading a neighbour by mistake would return a fare
+        FareTable.Builder b = FareTable.builder(T, 30);
+        for (int o = 0; o < Airport.COUNT; o++) {
+            for (int d = 0; d < Airport.COUNT; d++) {
+                for (int c = 0; c < SeatingClass.COUNT && o != d; c++) {
+                    b.set(o, d, c, T, T + 29, 10_000 + o * 1000 + d * 100 + c);
+                }
+            }
+        }
+        FareTable t = b.build();
+        int unknown = FlightRules.UNKNOWN;
+        assertEquals(FareTable.NO_FARE, t.fare(MEL, PVG, SeatingClass.COUNT, T + 1));
+        assertEquals(FareTable.NO_FARE, t.fare(MEL, PVG, unknown, T + 1));
+        assertEquals(FareTable.NO_FARE, t.fare(unknown, PVG, ECONOMY, T + 1));
+        assertEquals(FareTable.NO_FARE, t.fare(MEL, Airport.COUNT, ECONOMY, T + 1));
+        assertEquals(FareTable.NO_FARE, t.partyFare(MEL, unknown, ECONOMY, T + 1, 1, 0, 0));
+        assertEquals(FareTable.NO_FARE, t.roundTripFare(Airport.COUNT, PVG, ECONOMY, T + 1, T + 2, 1, 0, 0));
+        assertEquals(FareTable.NO_FARE, new FareEngine(t).price(MEL, PVG, SeatingClass.COUNT, T + 1, T + 2, 1, 0, 0));
+        assertEquals(10_000 + MEL * 1000 + PVG * 100 + ECONOMY, t.fare(MEL, PVG, ECONOMY, T + 1));
+    }
+
+    @Test
+    void testCopyOnWriteAndShift() {
+        FareEngine engine = new FareEngine(table());
+        FareTable before = engine.snapshot();
+        FareTable after = engine.update(b -> b.set(MEL, PVG, ECONOMY, T, T + 364, 45_000).childPermille(500));
+
+        assertSame(after, engine.snapshot());
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(40_000, before.fare(MEL, PVG, ECONOMY, T + 1));
+        assertEquals(750, before.childPermille());
+        assertEquals(45_000, after.fare(MEL, PVG, ECONOMY, T + 1));
+        assertEquals(500, after.childPermille());
+
+        FareTable shifted = engine.update(b -> b.shiftTo(T + 10));
+        assertEquals(T + 10, shifted.firstDay());
+        assertEquals(50_000, shifted.fare(PVG, MEL, ECONOMY, T + 12));
+        assertEquals(45_000, shifted.fare(MEL, PVG, ECONOMY, T + 364));
+        assertEquals(FareTable.NO_FARE, shifted.fare(MEL, PVG, ECONOMY, T + 365));
+        assertEquals(FareTable.NO_FARE, shifted.fare(MEL, PVG, ECONOMY, T + 5));
+
+        FareTable back = engine.update(b -> b.shiftTo(T - 1000));
+        assertEquals(FareTable.NO_FARE, back.fare(MEL, PVG, ECONOMY, T - 900));
+
+        // A builder that keeps going after build() must not change the table it built
+        FareTable.Builder b = FareTable.builder(T, 30).set(MEL, PVG, ECONOMY, T, T + 29, 10_000);
+        FareTable first = b.build();
+        b.set(MEL, PVG, ECONOMY, T, 20_000).shiftTo(T + 1);
+        assertEquals(10_000, first.fare(MEL, PVG, ECONOMY, T));
+        assertEquals(10_000, first.fare(MEL, PVG, ECONOMY, T + 29));
+        assertEquals(10_000, b.build().fare(MEL, PVG, ECONOMY, T + 1));
+    }
+
+    @Test
+    void testReadersSeeWholeSnapshots() throws Exception {
+        // Every update keeps outbound + return at 3000.00, so any mix of two snapshots shows up
+        FareEngine engine = new FareEngine(table());
+        engine.update(b -> b.set(MEL, PVG, ECONOMY, T, T + 364, 100_000).set(PVG, MEL, ECONOMY, T, T + 364, 200_000));
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    long price = engine.price(MEL, PVG, ECONOMY, T + 30, T + 40, 1, 0, 0);
+                    if (price != 300_000) {
+                        throw new AssertionError("mixed snapshot: " + price);
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        for (int v = 1; v <= 2_000; v++) {
+            int fare = 100_000 + v;
+            engine.update(b -> b.set(MEL, PVG, ECONOMY, T, T + 364, fare)
+                    .set(PVG, MEL, ECONOMY, T, T + 364, 300_000 - fare));
+        }
+        done.set(true);
+        reader.join();
+        assertNull(failure.get());
+        assertEquals(102_000, engine.snapshot().fare(MEL, PVG, ECONOMY, T + 30));
+    }
+}
@@ -0,0 +1,122 @@
+// src/test/java/flight/http/SearchServerTest.java
+package flight.http;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - GET with query parameters and POST with a JSON body
+ *  - accept/reject result and reason in the response
+ *  - 400 for missing or unparseable parameters, including a missing string field or flag
+ *  - a JSON null string field is validated and rejected with a reason, a null flag or count is a 400
+ */
+class SearchServerTest {
+
+    private static final Clock CLOCK =
+            Clock.fixed(LocalDate.of(2030, 1, 15).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    private SearchServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FlightSearchValidator validator = new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters());
+        server = SearchServer.start(new InetSocketAddress("localhost", 0), validator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> get(String query) throws Exception {
+        URI uri = URI.create("http://localhost:" + server.port() + "/search?" + query);
+        return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String json) throws Exception {
+        URI uri = URI.create("http://localhost:" + server.port() + "/search");
+        return client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(json)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testGetAccepted() throws Exception {
+        HttpResponse<String> resp = get("departureDate=01/02/2030&departureAirportCode=mel&emergencyRowSeating=false"
+                + "&returnDate=10/02/2030&destinationAirportCode=pvg&seatingClass=premium+economy"
+                + "&adultPassengerCount=2&childPassengerCount=2&infantPassengerCount=0");
+        assertEquals(200, resp.statusCode());
+        assertEquals("{\"accepted\":true,\"reason\":\"ACCEPTED\"}", resp.body());
+        assertEquals(1, server.validator().counters().count(ValidationOutcome.ACCEPTED));
+    }
+
+    @Test
+    void testPostRejectedWithReason() throws Exception {
+        HttpResponse<String> resp = post("{\"departureDate\": \"01/02/2030\", \"departureAirportCode\": \"mel\","
+                + " \"emergencyRowSeating\": false, \"returnDate\": \"10/02/2030\", \"destinationAirportCode\": \"pvg\","
+                + " \"seatingClass\": \"first\", \"adultPassengerCount\": 1, \"childPassengerCount\": 1,"
+                + " \"infantPassengerCount\": 0}");
+        assertEquals(200, resp.statusCode());
+        assertEquals("{\"accepted\":false,\"reason\":\"CHILD_IN_FIRST\"}", resp.body());
+    }
+
+    @Test
+    void testBadRequests() throws Exception {
+        assertEquals(400, get("departureDate=01/02/2030").statusCode());
+        assertEquals(400, get("adultPassengerCount=one&childPassengerCount=0&infantPassengerCount=0").statusCode());
+        assertEquals(400, post("{\"departureDate\": ").statusCode());
+    }
+
+    @Test
+    void testMissingStringOrFlagIsBadRequest() throws Exception {
+        String all = "departureDate=01/02/2030&departureAirportCode=mel&emergencyRowSeating=false"
+                + "&returnDate=10/02/2030&destinationAirportCode=pvg&seatingClass=economy"
+                + "&adultPassengerCount=1&childPassengerCount=0&infantPassengerCount=0";
+        HttpResponse<String> noAirport = get(all.replace("&destinationAirportCode=pvg", ""));
+        assertEquals(400, noAirport.statusCode());
+        assertEquals("{\"error\":\"destinationAirportCode is required\"}", noAirport.body());
+        assertEquals(400, get(all.replace("&seatingClass=economy", "")).statusCode());
+        assertEquals(400, get(all.replace("&returnDate=10/02/2030", "")).statusCode());
+        assertEquals(400, get(all.replace("&emergencyRowSeating=false", "")).statusCode());
+        assertEquals(0, server.validator().counters().rejected() + server.validator().counters()
+                .count(ValidationOutcome.ACCEPTED));
+
+        // Present but not allowed is still a validation outcome
+        HttpResponse<String> unknown = get(all.replace("destinationAirportCode=pvg", "destinationAirportCode=xxx"));
+        assertEquals(200, unknown.statusCode());
+        assertEquals("{\"accepted\":false,\"reason\":\"INVALID_AIRPORT\"}", unknown.body());
+    }
+
+    @Test
+    void testJsonNullStringIsValidated() throws Exception {
+        String body = "{\"departureDate\": \"01/02/2030\", \"departureAirportCode\": null,"
+                + " \"emergencyRowSeating\": false, \"returnDate\": \"10/02/2030\", \"destinationAirportCode\": \"pvg\","
+                + " \"seatingClass\": \"economy\", \"adultPassengerCount\": 1, \"childPassengerCount\": 0,"
+                + " \"infantPassengerCount\": 0}";
+        HttpResponse<String> nullAirport = post(body);
+        assertEquals(200, nullAirport.statusCode());
+        assertEquals("{\"accepted\":false,\"reason\":\"INVALID_AIRPORT\"}", nullAirport.body());
+
+        assertEquals(400, post(body.replace("\"emergencyRowSeating\": false", "\"emergencyRowSeating\": null"))
+                .statusCode());
+        assertEquals(400, post(body.replace("\"adultPassengerCount\": 1", "\"adultPassengerCount\": null"))
+                .statusCode());
+    }
+}
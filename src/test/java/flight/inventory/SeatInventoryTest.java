@@ -0,0 +1,179 @@
+// src/test/java/flight/inventory/SeatInventoryTest.java
+package flight.inventory;
+
+import flight.Airport;
+import flight.FlightSearch;
+import flight.SeatingClass;
+import flight.route.Itinerary;
+import flight.route.ItinerarySearch;
+import flight.route.Ranking;
+import flight.route.RouteGraph;
+import flight.route.Schedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - hold/release accounting for regular and emergency-row seats; bad legs and classes are rejected
+ *  - releasing more than was held is rejected and changes nothing
+ *  - 64 threads contending on one popular leg never oversell
+ *  - itinerary search skips legs that cannot seat the validated party
+ */
+class SeatInventoryTest {
+
+    private static final int ECONOMY = SeatingClass.ECONOMY.ordinal();
+    private static final int THREADS = 64;
+
+    @Test
+    void testHoldAndRelease() {
+        SeatInventory inv = new SeatInventory(2);
+        inv.setAvailable(1, ECONOMY, 10, 2);
+
+        assertFalse(inv.hold(1, ECONOMY, 3, true));    // only 2 emergency-row seats
+        assertTrue(inv.hold(1, ECONOMY, 2, true));
+        assertEquals(8, inv.remaining(1, ECONOMY));
+        assertEquals(0, inv.emergencyRemaining(1, ECONOMY));
+
+        assertTrue(inv.hold(1, ECONOMY, 8, false));
+        assertFalse(inv.canSeat(1, ECONOMY, 1, false));
+        assertFalse(inv.hold(1, ECONOMY, 1, false));
+
+        inv.release(1, ECONOMY, 2, true);
+        assertEquals(2, inv.remaining(1, ECONOMY));
+        assertEquals(2, inv.emergencyRemaining(1, ECONOMY));
+        assertFalse(inv.canSeat(1, ECONOMY, 1, false)); // regular passengers do not take emergency-row seats
+        assertTrue(inv.canSeat(1, ECONOMY, 2, true));
+
+        assertEquals(0, inv.remaining(0, ECONOMY));
+        assertThrows(IllegalArgumentException.class, () -> inv.setAvailable(0, ECONOMY, 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> inv.hold(2, ECONOMY, 1, false));
+
+        // A bad class must not reach a neighbouring leg's cabin
+        inv.setAvailable(1, 0, 5, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> inv.hold(0, SeatingClass.COUNT, 1, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> inv.release(1, -1, 1, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> inv.remaining(0, SeatingClass.COUNT));
+        assertEquals(5, inv.remaining(1, 0));
+    }
+
+    @Test
+    void testOverReleaseRejected() {
+        SeatInventory inv = new SeatInventory(1);
+        inv.setAvailable(0, ECONOMY, 10, 2);
+        assertTrue(inv.hold(0, ECONOMY, 3, false));
+        inv.release(0, ECONOMY, 3, false);
+        assertThrows(IllegalStateException.class, () -> inv.release(0, ECONOMY, 3, false)); // double release
+        assertThrows(IllegalStateException.class, () -> inv.release(0, ECONOMY, Integer.MAX_VALUE, false));
+
+        assertTrue(inv.hold(0, ECONOMY, 2, false));
+        assertThrows(IllegalStateException.class, () -> inv.release(0, ECONOMY, 1, true));   // never held
+        assertEquals(8, inv.remaining(0, ECONOMY));
+        assertEquals(2, inv.emergencyRemaining(0, ECONOMY));
+        inv.release(0, ECONOMY, 2, false);
+        assertEquals(10, inv.remaining(0, ECONOMY));
+    }
+
+    @Test
+    void testContendedLegNeverOversells() throws Exception {
+        SeatInventory inv = new SeatInventory(1);
+        inv.setAvailable(0, ECONOMY, 20_000, 1_000);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            // Phase 1: everyone grabs single seats until the leg is full
+            CyclicBarrier start = new CyclicBarrier(THREADS);
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    long regular = 0, emergency = 0;
+                    boolean more = true;
+                    while (more) {
+                        more = false;
+                        if (inv.hold(0, ECONOMY, 1, false)) { regular++; more = true; }
+                        if (inv.hold(0, ECONOMY, 1, true))  { emergency++; more = true; }
+                    }
+                    return new long[]{regular, emergency};
+                }));
+            }
+            long regular = 0, emergency = 0;
+            for (Future<long[]> f : results) {
+                regular += f.get()[0];
+                emergency += f.get()[1];
+            }
+            assertEquals(19_000, regular);
+            assertEquals(1_000, emergency);
+            assertEquals(0, inv.remaining(0, ECONOMY));
+
+            // Phase 2: random holds and releases of whole parties; seats are conserved
+            inv.setAvailable(0, ECONOMY, 5_000, 500);
+            CyclicBarrier start2 = new CyclicBarrier(THREADS);
+            List<Future<long[]>> held = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                held.add(pool.submit(() -> {
+                    start2.await();
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    long regularHeld = 0, emergencyHeld = 0;
+                    for (int i = 0; i < 20_000; i++) {
+                        int party = 1 + rnd.nextInt(4);
+                        boolean em = rnd.nextInt(10) == 0;
+                        if (rnd.nextBoolean()) {
+                            if (inv.hold(0, ECONOMY, party, em)) {
+                                if (em) emergencyHeld += party; else regularHeld += party;
+                            }
+                        } else if ((em ? emergencyHeld : regularHeld) >= party) {
+                            inv.release(0, ECONOMY, party, em);
+                            if (em) emergencyHeld -= party; else regularHeld -= party;
+                        }
+                        assertTrue(inv.remaining(0, ECONOMY) >= 0);
+                    }
+                    return new long[]{regularHeld, emergencyHeld};
+                }));
+            }
+            long regularHeld = 0, emergencyHeld = 0;
+            for (Future<long[]> f : held) {
+                regularHeld += f.get()[0];
+                emergencyHeld += f.get()[1];
+            }
+            assertEquals(5_000 - regularHeld - emergencyHeld, inv.remaining(0, ECONOMY));
+            assertEquals(500 - emergencyHeld, inv.emergencyRemaining(0, ECONOMY));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSearchSkipsLegsWithoutRoomForParty() {
+        LocalDate day = LocalDate.of(2030, 3, 1);
+        int base = (int) (day.toEpochDay() * Schedule.MINUTES_PER_DAY);
+        Schedule.Builder b = Schedule.builder();
+        int cheap = b.addLeg(1, Airport.MEL.ordinal(), Airport.PVG.ordinal(), base + 600, base + 1200, 50_000);
+        int dear  = b.addLeg(2, Airport.MEL.ordinal(), Airport.PVG.ordinal(), base + 700, base + 1300, 90_000);
+        Schedule schedule = b.build();
+        ItinerarySearch search = new ItinerarySearch(new RouteGraph(schedule));
+
+        SeatInventory inv = new SeatInventory(schedule.size());
+        inv.setAvailable(cheap, ECONOMY, 2, 0);  // too small for a party of 3
+        inv.setAvailable(dear, ECONOMY, 10, 0);
+
+        FlightSearch fs = new FlightSearch(Clock.fixed(day.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+        assertTrue(fs.runFlightSearch("01/03/2030", "mel", false, "08/03/2030", "pvg", "economy", 2, 1, 0));
+
+        assertEquals(cheap, search.search(fs, Ranking.CHEAPEST, 5).get(0).leg(0));
+        List<Itinerary> seated = search.search(fs, Ranking.CHEAPEST, 5, inv);
+        assertEquals(1, seated.size());
+        assertEquals(dear, seated.get(0).leg(0));
+    }
+}
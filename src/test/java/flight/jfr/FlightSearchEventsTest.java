@@ -0,0 +1,100 @@
+// src/test/java/flight/jfr/FlightSearchEventsTest.java
+package flight.jfr;
+
+import flight.FlightSearch;
+import flight.FlightSearchValidator;
+import flight.SearchBatch;
+import flight.SearchRequest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - a recording with a zero threshold gets one FlightSearchValidated per check, with its fields
+ *  - DateParseFailed events for bad dates from the validator and the batch path
+ *  - with the default 100 us threshold and DateParseFailed off, fast checks record nothing
+ */
+class FlightSearchEventsTest {
+
+    private static final Clock CLOCK =
+            Clock.fixed(LocalDate.of(2030, 1, 15).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    private final FlightSearchValidator validator = new FlightSearchValidator(CLOCK);
+
+    private static List<RecordedEvent> events(Path file, String name) throws IOException {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testEventsAreRecorded(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("search.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightSearchValidatedEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(DateParseFailedEvent.NAME);
+            recording.start();
+
+            validator.check(new SearchRequest("20/01/2030", "mel", false, "27/01/2030", "pvg", "economy", 2, 0, 0));
+            validator.check(new SearchRequest("20/01/2030", "xxx", false, "31/04/2030", "pvg", "first", 1, 1, 0));
+            FlightSearch.runFlightSearchBatch(new SearchBatch(
+                    new String[]{"1/2/2030"}, new String[]{"mel"}, new boolean[1], new String[]{"27/01/2030"},
+                    new String[]{"pvg"}, new String[]{"economy"}, new int[]{1}, new int[1], new int[1]),
+                    new boolean[1], new byte[1]);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> validated = events(file, FlightSearchValidatedEvent.NAME);
+        assertEquals(2, validated.size());
+        RecordedEvent ok = validated.get(0);
+        assertEquals("mel", ok.getString("origin"));
+        assertEquals("pvg", ok.getString("destination"));
+        assertEquals("economy", ok.getString("seatingClass"));
+        assertTrue(ok.getBoolean("accepted"));
+        assertEquals("ACCEPTED", ok.getString("reason"));
+        assertFalse(ok.getDuration().isNegative());
+        RecordedEvent rejected = validated.get(1);
+        assertFalse(rejected.getBoolean("accepted"));
+        assertEquals("INVALID_AIRPORT", rejected.getString("reason"));
+        assertEquals("xxx", rejected.getString("origin"));
+
+        List<RecordedEvent> failed = events(file, DateParseFailedEvent.NAME);
+        assertEquals(2, failed.size());
+        assertEquals("returnDate", failed.get(0).getString("field"));
+        assertEquals("31/04/2030", failed.get(0).getString("input"));
+        assertEquals("departureDate", failed.get(1).getString("field"));
+        assertEquals("1/2/2030", failed.get(1).getString("input"));
+    }
+
+    @Test
+    void testDefaultSettingsSkipFastChecks(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("quiet.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightSearchValidatedEvent.NAME); // annotation threshold: 100 us
+            recording.start();
+            SearchRequest bad = new SearchRequest("31/04/2030", "mel", false, "27/01/2030", "pvg", "economy", 2, 0, 0);
+            for (int i = 0; i < 20_000; i++) validator.check(bad);
+            recording.stop();
+            recording.dump(file);
+        }
+        assertTrue(events(file, DateParseFailedEvent.NAME).isEmpty());
+        // A GC pause or safepoint can push a handful over the threshold, never most of them
+        assertTrue(events(file, FlightSearchValidatedEvent.NAME).size() < 100);
+    }
+}
@@ -0,0 +1,133 @@
+// src/test/java/flight/metrics/ValidationMetricsTest.java
+package flight.metrics;
+
+import flight.Airport;
+import flight.FlightRules;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - histogram buckets contain their values to within 1/16, percentiles land in the right bucket
+ *  - the validator reports exact outcome and airport-pair counts, and timed latencies
+ *  - switched off, nothing is recorded
+ *  - snapshots taken while writers run, and exact totals once they stop
+ */
+class ValidationMetricsTest {
+
+    private static final Clock CLOCK =
+            Clock.fixed(LocalDate.of(2030, 1, 15).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    private static final SearchRequest VALID   =
+            new SearchRequest("20/01/2030", "mel", false, "27/01/2030", "pvg", "economy", 2, 1, 0);
+    private static final SearchRequest IN_PAST =
+            new SearchRequest("10/01/2030", "syd", false, "27/01/2030", "doh", "economy", 2, 1, 0);
+    private static final SearchRequest BAD_AIRPORT =
+            new SearchRequest("20/01/2030", "xxx", false, "27/01/2030", "doh", "economy", 2, 1, 0);
+
+    private static FlightSearchValidator validator(ValidationMetrics metrics) {
+        return new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters(), FlightRules.CHAIN, metrics);
+    }
+
+    @Test
+    void testHistogramBuckets() {
+        for (long v = 0; v < 200_000; v++) {
+            int b = LatencyHistogram.bucket(v);
+            assertTrue(LatencyHistogram.lowestValue(b) <= v && v <= LatencyHistogram.highestValue(b), "value " + v);
+            assertTrue(LatencyHistogram.highestValue(b) - v <= Math.max(0, v / 16), "value " + v);
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucket(-5));
+
+        LatencyHistogram h = new LatencyHistogram();
+        for (int v = 1; v <= 1000; v++) h.record(v * 1000L);
+        HistogramSnapshot s = h.snapshot();
+        assertEquals(1000, s.count());
+        assertEquals(500_000, s.valueAtPercentile(50), 500_000 / 16.0);
+        assertEquals(990_000, s.valueAtPercentile(99), 990_000 / 16.0);
+        assertEquals(1_000_000, s.max(), 1_000_000 / 16.0);
+        assertEquals(500_500, s.mean(), 500_500 / 16.0);
+    }
+
+    @Test
+    void testValidatorReportsOutcomesPairsAndLatency() {
+        ValidationMetrics metrics = new ValidationMetrics(1);
+        FlightSearchValidator v = validator(metrics);
+        for (int i = 0; i < 5; i++) v.check(VALID);
+        for (int i = 0; i < 3; i++) v.check(IN_PAST);
+        v.check(BAD_AIRPORT);
+        v.validate(VALID);
+
+        MetricsSnapshot s = metrics.snapshot();
+        assertEquals(6, s.count(ValidationOutcome.ACCEPTED));
+        assertEquals(3, s.count(ValidationOutcome.DEPARTURE_IN_PAST));
+        assertEquals(1, s.count(ValidationOutcome.INVALID_AIRPORT));
+        assertEquals(4, s.rejected());
+        assertEquals(6, s.pairCount(Airport.MEL, Airport.PVG));
+        assertEquals(3, s.pairCount(Airport.SYD, Airport.DOH));
+        assertEquals(0, s.pairCount(Airport.PVG, Airport.MEL));
+        assertEquals(6, s.latency(ValidationOutcome.ACCEPTED).count());
+        assertTrue(s.latency(ValidationOutcome.ACCEPTED).max() > 0);
+        assertTrue(s.format().contains("pair MEL-PVG count=6"));
+    }
+
+    @Test
+    void testDisabledRecordsNothing() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.setEnabled(false);
+        FlightSearchValidator v = validator(metrics);
+        for (int i = 0; i < 100; i++) v.check(VALID);
+        assertEquals(0, metrics.snapshot().total());
+        assertEquals(100, v.counters().count(ValidationOutcome.ACCEPTED));
+
+        metrics.setEnabled(true);
+        v.check(VALID);
+        assertEquals(1, metrics.snapshot().total());
+        assertThrows(IllegalArgumentException.class, () -> new ValidationMetrics(3));
+    }
+
+    @Test
+    void testSnapshotsWhileWriting() throws Exception {
+        ValidationMetrics metrics = new ValidationMetrics();
+        FlightSearchValidator v = validator(metrics);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) v.check(i % 4 == 0 ? IN_PAST : VALID);
+                }));
+            }
+            long last = 0;
+            for (int i = 0; i < 20; i++) {
+                long total = metrics.snapshot().total();
+                assertTrue(total >= last);
+                last = total;
+            }
+            for (Future<?> f : writers) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        MetricsSnapshot s = metrics.snapshot();
+        assertEquals(120_000, s.count(ValidationOutcome.ACCEPTED));
+        assertEquals(40_000, s.count(ValidationOutcome.DEPARTURE_IN_PAST));
+        assertEquals(120_000, s.pairCount(Airport.MEL, Airport.PVG));
+        long timed = s.latency(ValidationOutcome.ACCEPTED).count();
+        assertTrue(timed > 0 && timed < 120_000, "latency is sampled: " + timed);
+    }
+}
@@ -0,0 +1,160 @@
+// src/test/java/flight/route/ItinerarySearchTest.java
+package flight.route;
+
+import flight.Airport;
+import flight.FlightRules;
+import flight.FlightSearch;
+import flight.SeatingClass;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - top-K results equal a brute-force enumeration for both rankings
+ *  - connection-time window and no airport visited twice
+ *  - searching from what runFlightSearch stored
+ *  - unknown airport or class ordinals and negative leg fares are rejected
+ */
+class ItinerarySearchTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 1);
+    private static final int MCT = 60, MAX_CONN = 720;
+
+    /** Every valid itinerary (fare for economy, duration) found by plain enumeration. */
+    private static List<long[]> bruteForce(Schedule s, int origin, int destination, long epochDay) {
+        List<long[]> out = new ArrayList<>();
+        int dayStart = (int) (epochDay * Schedule.MINUTES_PER_DAY);
+        for (int a = 0; a < s.size(); a++) {
+            if (s.origin(a) != origin || s.departureMinute(a) < dayStart
+                    || s.departureMinute(a) >= dayStart + Schedule.MINUTES_PER_DAY) continue;
+            if (s.destination(a) == destination) {
+                out.add(new long[]{s.fareCents(a), s.arrivalMinute(a) - s.departureMinute(a)});
+                continue;
+            }
+            for (int b = 0; b < s.size(); b++) {
+                if (!connects(s, a, b) || s.destination(b) == origin) continue;
+                if (s.destination(b) == destination) {
+                    out.add(new long[]{s.fareCents(a) + s.fareCents(b), s.arrivalMinute(b) - s.departureMinute(a)});
+                    continue;
+                }
+                for (int c = 0; c < s.size(); c++) {
+                    if (!connects(s, b, c) || s.destination(c) != destination) continue;
+                    out.add(new long[]{s.fareCents(a) + s.fareCents(b) + s.fareCents(c),
+                            s.arrivalMinute(c) - s.departureMinute(a)});
+                }
+            }
+        }
+        return out;
+    }
+
+    private static boolean connects(Schedule s, int a, int b) {
+        int gap = s.departureMinute(b) - s.arrivalMinute(a);
+        return s.origin(b) == s.destination(a) && gap >= MCT && gap <= MAX_CONN;
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Schedule schedule = SyntheticSchedules.generate(1_500, DAY.toEpochDay(), 4, 11L);
+        ItinerarySearch search = new ItinerarySearch(new RouteGraph(schedule), MCT, MAX_CONN);
+        long day = DAY.toEpochDay() + 1;
+
+        for (int o = 0; o < Airport.COUNT; o++) {
+            for (int d = 0; d < Airport.COUNT; d++) {
+                if (o == d) continue;
+                List<long[]> all = bruteForce(schedule, o, d, day);
+
+                all.sort(Comparator.<long[]>comparingLong(x -> x[0]).thenComparingLong(x -> x[1]));
+                assertTopMatches(all, search.search(o, d, day, SeatingClass.ECONOMY.ordinal(), Ranking.CHEAPEST, 10));
+
+                all.sort(Comparator.<long[]>comparingLong(x -> x[1]).thenComparingLong(x -> x[0]));
+                assertTopMatches(all, search.search(o, d, day, SeatingClass.ECONOMY.ordinal(), Ranking.FASTEST, 10));
+            }
+        }
+    }
+
+    private static void assertTopMatches(List<long[]> expected, List<Itinerary> actual) {
+        assertEquals(Math.min(10, expected.size()), actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(expected.get(i)[0], actual.get(i).fareCents(), "fare at " + i);
+            assertEquals(expected.get(i)[1], actual.get(i).durationMinutes(), "duration at " + i);
+        }
+    }
+
+    @Test
+    void testConnectionRulesAndClassFare() {
+        int day = (int) (DAY.toEpochDay() * Schedule.MINUTES_PER_DAY);
+        int syd = Airport.SYD.ordinal(), mel = Airport.MEL.ordinal(), doh = Airport.DOH.ordinal();
+        int cdg = Airport.CDG.ordinal();
+        Schedule.Builder b = Schedule.builder();
+        int first = b.addLeg(1, syd, mel, day + 600, day + 690, 10_000);
+        b.addLeg(2, mel, doh, day + 700, day + 1500, 50_000);        // 10 min connection: too short
+        int ok = b.addLeg(3, mel, doh, day + 800, day + 1600, 60_000); // 110 min connection
+        b.addLeg(4, mel, doh, day + 690 + MAX_CONN + 1, day + 2500, 1); // too long a wait
+        b.addLeg(5, mel, syd, day + 800, day + 890, 1);              // back to origin
+        b.addLeg(6, cdg, doh, day + 600, day + 900, 1);              // wrong origin
+        Schedule schedule = b.build();
+
+        ItinerarySearch search = new ItinerarySearch(new RouteGraph(schedule), MCT, MAX_CONN);
+        List<Itinerary> result = search.search(syd, doh, DAY.toEpochDay(), SeatingClass.BUSINESS.ordinal(),
+                Ranking.CHEAPEST, 5);
+
+        assertEquals(1, result.size());
+        Itinerary it = result.get(0);
+        assertArrayEquals(new int[]{first, ok}, it.legs());
+        assertEquals(1, it.stops());
+        assertEquals(70_000L * 3500 / 1000, it.fareCents());
+        assertEquals(1000, it.durationMinutes());
+    }
+
+    @Test
+    void testBadOrdinalsAndFaresRejected() {
+        int day = (int) (DAY.toEpochDay() * Schedule.MINUTES_PER_DAY);
+        int syd = Airport.SYD.ordinal(), mel = Airport.MEL.ordinal();
+        Schedule.Builder b = Schedule.builder();
+        b.addLeg(1, syd, mel, day + 600, day + 690, 10_000);
+        assertThrows(IllegalArgumentException.class, () -> b.addLeg(2, syd, mel, day + 600, day + 690, -1));
+
+        ItinerarySearch search = new ItinerarySearch(new RouteGraph(b.build()), MCT, MAX_CONN);
+        long epochDay = DAY.toEpochDay();
+        int economy = SeatingClass.ECONOMY.ordinal();
+        assertThrows(IllegalArgumentException.class,
+                () -> search.search(FlightRules.UNKNOWN, mel, epochDay, economy, Ranking.CHEAPEST, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> search.search(syd, Airport.COUNT, epochDay, economy, Ranking.CHEAPEST, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> search.search(syd, mel, epochDay, FlightRules.UNKNOWN, Ranking.FASTEST, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> search.search(syd, mel, epochDay, SeatingClass.COUNT, Ranking.FASTEST, 5));
+        assertEquals(1, search.search(syd, mel, epochDay, economy, Ranking.FASTEST, 5).size());
+    }
+
+    @Test
+    void testSearchFromFlightSearch() {
+        Clock clock = Clock.fixed(DAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        FlightSearch fs = new FlightSearch(clock);
+        ItinerarySearch search = new ItinerarySearch(
+                new RouteGraph(SyntheticSchedules.generate(20_000, DAY.toEpochDay(), 30, 3L)));
+
+        assertThrows(IllegalStateException.class, () -> search.search(fs, Ranking.CHEAPEST, 5));
+
+        assertTrue(fs.runFlightSearch("05/03/2030", "mel", false, "12/03/2030", "cdg", "economy", 2, 1, 0));
+        List<Itinerary> result = search.search(fs, Ranking.FASTEST, 5);
+        assertFalse(result.isEmpty());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).durationMinutes() <= result.get(i).durationMinutes());
+        }
+        Schedule s = SyntheticSchedules.generate(20_000, DAY.toEpochDay(), 30, 3L);
+        Itinerary best = result.get(0);
+        assertEquals(Airport.MEL.ordinal(), s.origin(best.leg(0)));
+        assertEquals(Airport.CDG.ordinal(), s.destination(best.leg(best.legCount() - 1)));
+        assertEquals(LocalDate.of(2030, 3, 5).toEpochDay(), best.departureMinute() / Schedule.MINUTES_PER_DAY);
+    }
+}
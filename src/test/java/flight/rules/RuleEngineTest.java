@@ -0,0 +1,137 @@
+// src/test/java/flight/rules/RuleEngineTest.java
+package flight.rules;
+
+import flight.DmyDateParser;
+import flight.FlightRules;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.SeatingClass;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - the default config reports exactly what FlightRules reports, over every
+ *    class, a spread of airports and dates, and passenger counts -1..10
+ *  - accepts() agrees with check() whatever the adaptive order
+ *  - frequent rejections through check() move their rule to the front, on the
+ *    reorder executor, and check() still reports the specification-order reason
+ *  - parameters loaded from a config file change the rules; bad files are rejected
+ */
+class RuleEngineTest {
+
+    private static final long TODAY = LocalDate.of(2030, 1, 15).toEpochDay();
+
+    private static final int[]  CLASSES  = {FlightRules.UNKNOWN, 0, 1, 2, 3};
+    private static final int[]  AIRPORTS = {FlightRules.UNKNOWN, 0, 1};
+    private static final long[][] DATES  = {
+            {TODAY + 3, TODAY + 10}, {TODAY - 1, TODAY + 10}, {TODAY + 3, TODAY + 1},
+            {DmyDateParser.INVALID, TODAY + 10}, {TODAY, TODAY}};
+
+    @Test
+    void testDefaultConfigMatchesFlightRules() {
+        RuleEngine engine = new RuleEngine(RuleConfig.DEFAULTS);
+        for (int cls : CLASSES) for (int from : AIRPORTS) for (int to : AIRPORTS) for (long[] d : DATES) {
+            for (int em = 0; em < 2; em++) for (int a = -1; a <= 10; a++) for (int c = 0; c <= 10; c++) {
+                for (int i = 0; i <= 10; i++) {
+                    ValidationOutcome expected =
+                            FlightRules.check(cls, from, to, d[0], d[1], TODAY, em == 1, a, c, i);
+                    assertEquals(expected, engine.check(cls, from, to, d[0], d[1], TODAY, em == 1, a, c, i));
+                    assertEquals(expected.isAccepted(),
+                            engine.accepts(cls, from, to, d[0], d[1], TODAY, em == 1, a, c, i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFrequentRejectionsMoveToFront() {
+        List<Runnable> reorders = new ArrayList<>();
+        RuleEngine engine = new RuleEngine(RuleConfig.DEFAULTS.rules(), reorders::add);
+        assertEquals(ValidationOutcome.INVALID_CLASS, engine.evaluationOrder().get(0));
+
+        // Validator-path traffic where most rejections are children outnumbering adults
+        long rejected = 0;
+        for (int n = 0; n < 2 * RuleEngine.REORDER_EVERY; n++) {
+            int children = n % 10 == 0 ? 0 : 3;
+            if (!engine.check(0, 0, 1, TODAY + 3, TODAY + 5, TODAY, false, 1, children, 0).isAccepted()) rejected++;
+        }
+        assertEquals(1, reorders.size());                 // queued once, not run on the caller
+        assertEquals(ValidationOutcome.INVALID_CLASS, engine.evaluationOrder().get(0));
+        reorders.get(0).run();
+        assertEquals(ValidationOutcome.CHILD_RATIO, engine.evaluationOrder().get(0));
+        assertEquals(rejected, engine.rejectionCounts()[11]);
+
+        // Reordering changes speed, never the answer or the reported reason
+        assertEquals(ValidationOutcome.INVALID_AIRPORT,
+                engine.check(0, FlightRules.UNKNOWN, 1, TODAY + 3, TODAY + 5, TODAY, false, 1, 3, 0));
+        assertFalse(engine.accepts(0, FlightRules.UNKNOWN, 1, TODAY + 3, TODAY + 5, TODAY, false, 1, 0, 0));
+        assertTrue(engine.accepts(0, 0, 1, TODAY + 3, TODAY + 5, TODAY, false, 1, 2, 0));
+    }
+
+    @Test
+    void testConfigFileChangesRules(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("rules.properties");
+        Files.writeString(file, String.join("\n",
+                "# stricter rules for a small aircraft",
+                "passengers.max = 4",
+                "children.perAdult = 1",
+                "children.forbiddenClasses = first, business",
+                "emergencyRow.classes = economy,premium economy"));
+        RuleConfig config = RuleConfig.load(file);
+        assertEquals(4, config.maxPassengers());
+        assertEquals(RuleConfig.DEFAULTS.infantsPerAdult(), config.infantsPerAdult());
+
+        Clock clock = Clock.fixed(LocalDate.ofEpochDay(TODAY).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        FlightSearchValidator validator =
+                new FlightSearchValidator(new TodayProvider(clock), new OutcomeCounters(), new RuleEngine(config));
+
+        assertEquals(ValidationOutcome.PASSENGER_TOTAL,
+                validator.check(request(false, "economy", 5, 0, 0)));
+        assertEquals(ValidationOutcome.CHILD_RATIO,
+                validator.check(request(false, "economy", 1, 2, 0)));
+        assertEquals(ValidationOutcome.CHILD_IN_FIRST,
+                validator.check(request(false, "business", 1, 1, 0)));
+        assertEquals(ValidationOutcome.ACCEPTED,
+                validator.check(request(true, "premium economy", 2, 0, 0)));
+        assertEquals(ValidationOutcome.INFANT_IN_BUSINESS,
+                validator.check(request(false, "business", 1, 0, 1)));
+    }
+
+    @Test
+    void testBadConfigRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RuleConfig.fromProperties(props("passengers.maxx", "9")));
+        assertThrows(IllegalArgumentException.class, () -> RuleConfig.fromProperties(props("passengers.max", "nine")));
+        assertThrows(IllegalArgumentException.class, () -> RuleConfig.fromProperties(props("passengers.max", "0")));
+        assertThrows(IllegalArgumentException.class,
+                () -> RuleConfig.fromProperties(props("infants.forbiddenClasses", "business,coach")));
+        assertEquals(0, RuleConfig.fromProperties(props("emergencyRow.classes", "")).emergencyRowClasses());
+        assertEquals(SeatingClass.FIRST.bit() | SeatingClass.ECONOMY.bit(),
+                RuleConfig.fromProperties(props("children.forbiddenClasses", "economy,first")).childForbiddenClasses());
+    }
+
+    private static SearchRequest request(boolean emergency, String cls, int adults, int children, int infants) {
+        return new SearchRequest("20/01/2030", "mel", emergency, "27/01/2030", "pvg", cls, adults, children, infants);
+    }
+
+    private static Properties props(String key, String value) {
+        Properties p = new Properties();
+        p.setProperty(key, value);
+        return p;
+    }
+}
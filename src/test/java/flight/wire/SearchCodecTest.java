@@ -0,0 +1,124 @@
+// src/test/java/flight/wire/SearchCodecTest.java
+package flight.wire;
+
+import flight.FlightRules;
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidationOutcome;
+import flight.rules.RuleConfig;
+import flight.rules.RuleEngine;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - checking the bytes gives the same outcome as validating the strings, for random valid and invalid requests
+ *  - decode returns the original request when every field is allowed
+ *  - the exact byte layout, independent of buffer type, byte order and offset
+ *  - counts that do not fit a nibble and unknown versions are rejected
+ */
+class SearchCodecTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh", "xxx", "MEL", null};
+    private static final String[] CLASSES  = {"economy", "premium economy", "business", "first", "econ", null};
+
+    private static String date(Random rnd) {
+        switch (rnd.nextInt(20)) {
+            case 0:  return "31/04/2030";
+            case 1:  return "2030-01-20";
+            case 2:  return null;
+            default: return TODAY.plusDays(rnd.nextInt(60) - 5).format(DMY);
+        }
+    }
+
+    private static SearchRequest randomRequest(Random rnd) {
+        return new SearchRequest(date(rnd), AIRPORTS[rnd.nextInt(AIRPORTS.length)], rnd.nextInt(5) == 0,
+                date(rnd), AIRPORTS[rnd.nextInt(AIRPORTS.length)], CLASSES[rnd.nextInt(CLASSES.length)],
+                rnd.nextInt(5), rnd.nextInt(4), rnd.nextInt(3));
+    }
+
+    private static SearchRequest validRequest() {
+        return new SearchRequest("20/01/2030", "mel", false, "27/01/2030", "pvg", "premium economy", 2, 1, 1);
+    }
+
+    @Test
+    void testCheckMatchesStringValidation() {
+        FlightSearchValidator validator = new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters());
+        RuleEngine engine = new RuleEngine(RuleConfig.DEFAULTS);
+        long today = TODAY.toEpochDay();
+        ByteBuffer buf = ByteBuffer.allocate(SearchCodec.SIZE * 64);
+        Random rnd = new Random(18L);
+        for (int i = 0; i < 50_000; i++) {
+            SearchRequest r = randomRequest(rnd);
+            int offset = (i & 63) * SearchCodec.SIZE;
+            SearchCodec.encode(r, buf, offset);
+            ValidationOutcome expected = validator.check(r);
+            assertEquals(expected, SearchCodec.check(buf, offset, today), r::toString);
+            assertEquals(expected, SearchCodec.check(buf, offset, today, engine), r::toString);
+            assertEquals(expected, validator.check(SearchCodec.decode(buf, offset)), r::toString);
+        }
+    }
+
+    @Test
+    void testDecodeRoundTrip() {
+        ByteBuffer buf = ByteBuffer.allocate(SearchCodec.SIZE);
+        SearchRequest r = validRequest();
+        SearchCodec.encode(r, buf, 0);
+        assertEquals(r, SearchCodec.decode(buf, 0));
+
+        SearchRequest bad = new SearchRequest("31/04/2030", "xxx", true, "27/01/2030", "pvg", "econ", 0, 0, 15);
+        SearchCodec.encode(bad, buf, 0);
+        assertEquals(new SearchRequest(null, null, true, "27/01/2030", "pvg", null, 0, 0, 15),
+                SearchCodec.decode(buf, 0));
+        assertEquals(FlightRules.UNKNOWN, SearchCodec.departureAirport(buf, 0));
+        assertEquals(FlightRules.UNKNOWN, SearchCodec.seatingClass(buf, 0));
+    }
+
+    @Test
+    void testLayout() {
+        byte[] expected = {
+                1, 1, 5, 1, 0, 0x21, 0x10, 0,
+                (byte) 0xAE, 0x55, 0, 0,        // 20/01/2030 = epoch-day 21934
+                (byte) 0xB5, 0x55, 0, 0};       // 27/01/2030 = epoch-day 21941
+        for (ByteBuffer buf : new ByteBuffer[]{
+                ByteBuffer.allocate(SearchCodec.SIZE + 3),
+                ByteBuffer.allocateDirect(SearchCodec.SIZE + 3),
+                ByteBuffer.allocateDirect(SearchCodec.SIZE + 3).order(ByteOrder.BIG_ENDIAN),
+                ByteBuffer.allocate(SearchCodec.SIZE + 3).order(ByteOrder.LITTLE_ENDIAN)}) {
+            SearchCodec.encode(validRequest(), buf, 3);
+            byte[] actual = new byte[SearchCodec.SIZE];
+            buf.get(3, actual);
+            assertArrayEquals(expected, actual, buf.toString());
+            assertEquals(0, buf.position(), "encoding must not move the position");
+            assertEquals(21934L, SearchCodec.departureEpochDay(buf, 3));
+            assertEquals(validRequest(), SearchCodec.decode(buf, 3));
+        }
+    }
+
+    @Test
+    void testRejectsWhatDoesNotFit() {
+        ByteBuffer buf = ByteBuffer.allocate(SearchCodec.SIZE);
+        assertThrows(IllegalArgumentException.class, () -> SearchCodec.encode(
+                new SearchRequest("20/01/2030", "mel", false, "27/01/2030", "pvg", "economy", 16, 0, 0), buf, 0));
+        assertThrows(IllegalArgumentException.class, () -> SearchCodec.encode(
+                new SearchRequest("20/01/2030", "mel", false, "27/01/2030", "pvg", "economy", 1, -1, 0), buf, 0));
+        assertThrows(IllegalArgumentException.class, () -> SearchCodec.encode(
+                new SearchRequest("20/01/+9999999", "mel", false, "27/01/2030", "pvg", "economy", 1, 0, 0), buf, 0));
+        assertThrows(IllegalArgumentException.class, () -> SearchCodec.check(buf, 0, TODAY.toEpochDay()));
+    }
+}
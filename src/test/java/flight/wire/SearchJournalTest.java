@@ -0,0 +1,226 @@
+// src/test/java/flight/wire/SearchJournalTest.java
+package flight.wire;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidatedSearch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - appended searches read back in order across ring wrap-arounds, and reopening continues the sequence
+ *  - recovery cuts a partial record and everything from the first corrupt record on
+ *  - fsync policies: none until sync(), by record count, by elapsed time
+ *  - concurrent appenders through a small ring get distinct sequences and every record lands intact
+ *  - closed journals and bad settings are rejected
+ */
+class SearchJournalTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh"};
+
+    private final FlightSearchValidator validator =
+            new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters());
+
+    @TempDir
+    Path dir;
+
+    /** The i-th accepted search: fields derived from i so a reader can check any record on its own. */
+    private ValidatedSearch search(int i) {
+        SearchRequest r = new SearchRequest(TODAY.plusDays(i % 300).format(DMY), AIRPORTS[i % 7], false,
+                TODAY.plusDays(i % 300 + i % 11).format(DMY), AIRPORTS[(i % 7 + 1 + i % 5) % 7],
+                i % 2 == 0 ? "economy" : "business", 1 + i % 4, i % 3, 0);
+        return validator.validate(r).orElseThrow();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void testAppendReadBackAndReopen() throws Exception {
+        Path file = dir.resolve("searches.journal");
+        try (SearchJournal journal = SearchJournal.builder(file).ringRecords(8).open()) {
+            assertEquals(0, journal.recoveredRecords());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, journal.append(search(i)));
+            }
+        }
+        assertEquals(50L * SearchJournal.RECORD_SIZE, Files.size(file));
+
+        try (SearchJournal.Reader reader = SearchJournal.read(file)) {
+            int n = 0;
+            while (reader.next()) {
+                ValidatedSearch s = search(n);
+                assertEquals(n, reader.sequence());
+                assertEquals(s.departureAirport(), reader.departureAirport());
+                assertEquals(s.destinationAirport(), reader.destinationAirport());
+                assertEquals(s.seatingClass(), reader.seatingClass());
+                assertEquals(s.departureEpochDay(), reader.departureEpochDay());
+                assertEquals(s.returnEpochDay(), reader.returnEpochDay());
+                assertEquals(s.request().adultPassengerCount(), reader.adultPassengerCount());
+                assertEquals(s.request().childPassengerCount(), reader.childPassengerCount());
+                assertEquals(s.request(), reader.request());
+                n++;
+            }
+            assertEquals(50, n);
+            assertEquals(50, reader.count());
+            assertFalse(reader.torn());
+        }
+
+        try (SearchJournal journal = SearchJournal.builder(file).open()) {
+            assertEquals(50, journal.recoveredRecords());
+            assertEquals(0, journal.truncatedBytes());
+            assertEquals(50, journal.append(search(50)));
+        }
+        assertEquals(51, SearchJournal.recover(file));
+    }
+
+    @Test
+    void testRecoveryCutsTornTail() throws Exception {
+        Path file = dir.resolve("torn.journal");
+        try (SearchJournal journal = SearchJournal.builder(file).open()) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(search(i));
+            }
+        }
+        // A crash in the middle of the 11th record
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ch.write(ByteBuffer.wrap(new byte[20]));
+        }
+        try (SearchJournal.Reader reader = SearchJournal.read(file)) {
+            while (reader.next()) {
+                // to the end
+            }
+            assertEquals(10, reader.count());
+            assertTrue(reader.torn());
+        }
+        try (SearchJournal journal = SearchJournal.builder(file).open()) {
+            assertEquals(10, journal.recoveredRecords());
+            assertEquals(20, journal.truncatedBytes());
+            assertEquals(10, journal.append(search(10)));
+        }
+        assertEquals(11L * SearchJournal.RECORD_SIZE, Files.size(file));
+
+        // A flipped bit in record 7: it and everything after it go
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            long pos = 7L * SearchJournal.RECORD_SIZE + 13;
+            ch.read(b, pos);
+            b.put(0, (byte) (b.get(0) ^ 0x04)).position(0);
+            ch.write(b, pos);
+        }
+        assertEquals(7, SearchJournal.recover(file));
+        assertEquals(7L * SearchJournal.RECORD_SIZE, Files.size(file));
+    }
+
+    @Test
+    void testSyncPolicies() throws Exception {
+        try (SearchJournal journal = SearchJournal.builder(dir.resolve("none.journal")).syncEveryRecords(0).open()) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(search(i));
+            }
+            waitUntil(() -> journal.written() == 5);
+            assertEquals(0, journal.durable());
+            assertEquals(0, journal.syncs());
+            journal.sync();
+            assertEquals(5, journal.durable());
+            assertEquals(1, journal.syncs());
+            journal.sync(); // nothing new: no fsync
+            assertEquals(1, journal.syncs());
+        }
+
+        try (SearchJournal journal = SearchJournal.builder(dir.resolve("count.journal")).syncEveryRecords(10).open()) {
+            for (int i = 0; i < 9; i++) {
+                journal.append(search(i));
+            }
+            waitUntil(() -> journal.written() == 9);
+            assertEquals(0, journal.durable());
+            journal.awaitDurable(journal.append(search(9)));
+            assertEquals(10, journal.durable());
+        }
+
+        try (SearchJournal journal = SearchJournal.builder(dir.resolve("time.journal"))
+                .syncEveryRecords(0).syncEveryMillis(20).open()) {
+            long seq = journal.append(search(0));
+            journal.awaitDurable(seq); // no further appends: the timer alone has to force it
+            assertEquals(1, journal.durable());
+        }
+    }
+
+    @Test
+    void testConcurrentAppenders() throws Exception {
+        Path file = dir.resolve("concurrent.journal");
+        int threads = 4;
+        int perThread = 5_000;
+        ConcurrentHashMap<Long, Integer> bySequence = new ConcurrentHashMap<>();
+        try (SearchJournal journal = SearchJournal.builder(file).ringRecords(64).syncEveryMillis(1).open()) {
+            List<Thread> appenders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int base = t * perThread;
+                Thread appender = new Thread(() -> {
+                    for (int i = base; i < base + perThread; i++) {
+                        assertNull(bySequence.put(journal.append(search(i)), i));
+                    }
+                });
+                appender.start();
+                appenders.add(appender);
+            }
+            for (Thread appender : appenders) {
+                appender.join(30_000);
+                assertFalse(appender.isAlive());
+            }
+        }
+        assertEquals(threads * perThread, bySequence.size());
+        try (SearchJournal.Reader reader = SearchJournal.read(file)) {
+            while (reader.next()) {
+                assertEquals(search(bySequence.get(reader.sequence())).request(), reader.request());
+            }
+            assertEquals(threads * perThread, reader.count());
+            assertFalse(reader.torn());
+        }
+    }
+
+    @Test
+    void testRejectsClosedJournalAndBadSettings() throws Exception {
+        SearchJournal journal = SearchJournal.builder(dir.resolve("closed.journal")).open();
+        journal.awaitDurable(journal.append(search(1)));
+        journal.close();
+        journal.close();
+        assertThrows(IllegalStateException.class, () -> journal.append(search(2)));
+        assertThrows(IllegalStateException.class, journal::sync);
+
+        Path file = dir.resolve("bad.journal");
+        assertThrows(IllegalArgumentException.class, () -> SearchJournal.builder(file).ringRecords(12));
+        assertThrows(IllegalArgumentException.class, () -> SearchJournal.builder(file).ringRecords(1));
+        assertThrows(IllegalArgumentException.class, () -> SearchJournal.builder(file).syncEveryRecords(-1));
+        assertThrows(IllegalArgumentException.class, () -> SearchJournal.builder(file).syncEveryMillis(-1));
+    }
+}
@@ -0,0 +1,132 @@
+// src/test/java/flight/wire/SearchStoreTest.java
+package flight.wire;
+
+import flight.FlightSearchValidator;
+import flight.OutcomeCounters;
+import flight.SearchRequest;
+import flight.TodayProvider;
+import flight.ValidatedSearch;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ *  - appended searches read back by index, by scan and through the flyweight fields, across segments
+ *  - out-of-range indices and bad segment sizes are rejected
+ *  - readers scanning while a writer appends only ever see complete records
+ */
+class SearchStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private static final String[] AIRPORTS = {"syd", "mel", "lax", "cdg", "del", "pvg", "doh"};
+
+    private final FlightSearchValidator validator =
+            new FlightSearchValidator(new TodayProvider(CLOCK), new OutcomeCounters());
+
+    /** The i-th accepted search: fields derived from i so a reader can check any record on its own. */
+    private ValidatedSearch search(int i) {
+        SearchRequest r = new SearchRequest(TODAY.plusDays(i % 300).format(DMY), AIRPORTS[i % 7], false,
+                TODAY.plusDays(i % 300 + i % 11).format(DMY), AIRPORTS[(i % 7 + 1 + i % 5) % 7],
+                i % 2 == 0 ? "economy" : "premium economy", 1 + i % 4, i % 3, i % 2);
+        return validator.validate(r).orElseThrow();
+    }
+
+    @Test
+    void testAppendScanAndIndex() {
+        SearchStore store = new SearchStore(4);
+        List<ValidatedSearch> expected = new ArrayList<>();
+        for (int i = 0; i < 103; i++) {
+            ValidatedSearch s = search(i);
+            expected.add(s);
+            assertEquals(i, store.append(s));
+        }
+        assertEquals(103, store.size());
+        assertEquals(26L * 4 * SearchCodec.SIZE, store.reservedBytes());
+
+        SearchStore.Cursor c = store.cursor();
+        int n = 0;
+        while (c.next()) {
+            ValidatedSearch s = expected.get(n);
+            assertEquals(n, c.index());
+            assertEquals(s.departureAirport(), c.departureAirport());
+            assertEquals(s.destinationAirport(), c.destinationAirport());
+            assertEquals(s.seatingClass(), c.seatingClass());
+            assertEquals(s.departureEpochDay(), c.departureEpochDay());
+            assertEquals(s.returnEpochDay(), c.returnEpochDay());
+            assertEquals(s.tripDays(), c.tripDays());
+            assertEquals(s.request().emergencyRowSeating(), c.emergencyRowSeating());
+            assertEquals(s.request().adultPassengerCount(), c.adultPassengerCount());
+            assertEquals(s.request().childPassengerCount(), c.childPassengerCount());
+            assertEquals(s.request().infantPassengerCount(), c.infantPassengerCount());
+            n++;
+        }
+        assertEquals(103, n);
+        assertEquals(expected.get(57).request(), store.request(57));
+        assertEquals(expected.get(3).request(), c.at(3).request());
+    }
+
+    @Test
+    void testRejectsBadArguments() {
+        SearchStore store = new SearchStore();
+        assertThrows(IndexOutOfBoundsException.class, () -> store.request(0));
+        store.append(search(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.request(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.cursor().at(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SearchStore(3));
+        assertThrows(IllegalArgumentException.class, () -> new SearchStore(0));
+    }
+
+    @Test
+    void testConcurrentReadersSeeCompleteRecords() throws Exception {
+        SearchStore store = new SearchStore(64);
+        int total = 20_000;
+        ValidatedSearch[] searches = new ValidatedSearch[total];
+        for (int i = 0; i < total; i++) {
+            searches[i] = search(i);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    SearchStore.Cursor c = store.cursor();
+                    while (c.index() < total - 1) {
+                        while (c.next()) {
+                            ValidatedSearch s = searches[(int) c.index()];
+                            if (c.departureEpochDay() != s.departureEpochDay()
+                                    || c.destinationAirport() != s.destinationAirport()
+                                    || c.adultPassengerCount() != s.request().adultPassengerCount()) {
+                                throw new AssertionError("torn record at " + c.index());
+                            }
+                        }
+                        Thread.onSpinWait();
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        for (ValidatedSearch s : searches) {
+            store.append(s);
+        }
+        for (Thread reader : readers) {
+            reader.join(10_000);
+            assertFalse(reader.isAlive(), "reader did not reach the end");
+        }
+        assertNull(failure.get());
+    }
+}